@@ -1,37 +1,57 @@
 import React, { useState, useEffect } from 'react';
 import { LineChart, Line, XAxis, YAxis, CartesianGrid, Tooltip, ResponsiveContainer, BarChart, Bar } from 'recharts';
+import DashboardService from '../services/DashboardService';
+
+// 화면에 유지할 최근 활동 수
+const MAX_ACTIVITY = 20;
+
+// 활동 종류별 표시 이름 / 상태
+const ACTIVITY_LABELS = {
+  ORDER_PLACED: { label: '새 주문', status: '신규', className: 'btn-info' },
+  PAYMENT_APPROVED: { label: '결제 승인', status: '완료', className: 'btn-success' },
+  PAYMENT_FAILED: { label: '결제 실패', status: '실패', className: 'btn-danger' },
+  LOW_STOCK: { label: '재고 부족', status: '확인 필요', className: 'btn-warning' }
+};
+
+const describeActivity = (activity) => {
+  switch (activity.type) {
+    case 'ORDER_PLACED':
+      return `${activity.orderNumber || activity.orderId} (₩${(activity.totalAmount || 0).toLocaleString()})`;
+    case 'PAYMENT_APPROVED':
+      return `주문 ${activity.orderId} (₩${Number(activity.amount || 0).toLocaleString()})`;
+    case 'PAYMENT_FAILED':
+      return `주문 ${activity.orderId} (${activity.reason})`;
+    case 'LOW_STOCK':
+      return `${activity.productName} (재고 ${activity.stockQuantity})`;
+    default:
+      return '';
+  }
+};
 
 const Dashboard = () => {
-  const [stats, setStats] = useState({
-    totalProducts: 0,
-    totalOrders: 0,
-    totalUsers: 0,
-    totalRevenue: 0
-  });
-  const [loading, setLoading] = useState(true);
+  const [stats, setStats] = useState(null);
+  const [activity, setActivity] = useState([]);
+  const [connected, setConnected] = useState(false);
 
+  // 폴링 대신 SSE 스트림으로 오늘 지표를 실시간 반영
   useEffect(() => {
-    fetchDashboardData();
+    const unsubscribe = DashboardService.subscribe({
+      onSnapshot: (snapshot) => {
+        setStats(snapshot);
+        setActivity((snapshot.activity || []).slice(0, MAX_ACTIVITY));
+        setConnected(true);
+      },
+      onMetrics: (metrics) => {
+        setStats(metrics);
+        // metrics 의 활동은 오래된 것부터 쌓이므로 뒤집어서 앞에 추가
+        const added = [...(metrics.activity || [])].reverse();
+        setActivity((previous) => [...added, ...previous].slice(0, MAX_ACTIVITY));
+      },
+      onError: () => setConnected(false)
+    });
+    return unsubscribe;
   }, []);
 
-  const fetchDashboardData = async () => {
-    try {
-      // 실제 API 호출 대신 모의 데이터 사용
-      setTimeout(() => {
-        setStats({
-          totalProducts: 156,
-          totalOrders: 89,
-          totalUsers: 234,
-          totalRevenue: 1250000
-        });
-        setLoading(false);
-      }, 1000);
-    } catch (error) {
-      console.error('Error fetching dashboard data:', error);
-      setLoading(false);
-    }
-  };
-
   // 모의 차트 데이터
   const salesData = [
     { name: '1월', sales: 4000 },
@@ -49,7 +69,7 @@ const Dashboard = () => {
     { name: '기타', value: 10 }
   ];
 
-  if (loading) {
+  if (!stats) {
     return <div className="loading">대시보드 데이터를 불러오는 중...</div>;
   }
 
@@ -57,29 +77,30 @@ const Dashboard = () => {
     <div>
       <div className="header">
         <h1>관리자 대시보드</h1>
+        <span>{connected ? '실시간 연결됨' : '다시 연결 중...'} ({stats.date} 기준)</span>
       </div>
 
       {/* 통계 카드 */}
       <div className="dashboard-grid">
         <div className="stat-card">
-          <h3>총 상품 수</h3>
-          <div className="number">{stats.totalProducts}</div>
-          <div className="change">+12% 이번 달</div>
+          <h3>오늘 주문 수</h3>
+          <div className="number">{stats.ordersPlaced}</div>
+          <div className="change">취소 {stats.ordersCancelled}건</div>
         </div>
         <div className="stat-card">
-          <h3>총 주문 수</h3>
-          <div className="number">{stats.totalOrders}</div>
-          <div className="change">+8% 이번 주</div>
+          <h3>오늘 매출</h3>
+          <div className="number">₩{stats.revenue.toLocaleString()}</div>
+          <div className="change">배송 완료 {stats.ordersDelivered}건</div>
         </div>
         <div className="stat-card">
-          <h3>총 사용자 수</h3>
-          <div className="number">{stats.totalUsers}</div>
-          <div className="change">+15% 이번 달</div>
+          <h3>오늘 결제</h3>
+          <div className="number">{stats.paymentsApproved}</div>
+          <div className="change">실패 {stats.paymentFailures}건</div>
         </div>
         <div className="stat-card">
-          <h3>총 매출</h3>
-          <div className="number">₩{stats.totalRevenue.toLocaleString()}</div>
-          <div className="change">+22% 이번 달</div>
+          <h3>재고 부족 상품</h3>
+          <div className="number">{stats.atRiskCount}</div>
+          <div className="change">오늘 알림 {stats.lowStockAlerts}건</div>
         </div>
       </div>
 
@@ -127,35 +148,27 @@ const Dashboard = () => {
               <tr>
                 <th>시간</th>
                 <th>활동</th>
-                <th>사용자</th>
+                <th>내용</th>
                 <th>상태</th>
               </tr>
             </thead>
             <tbody>
-              <tr>
-                <td>2024-01-15 14:30</td>
-                <td>새 상품 등록</td>
-                <td>관리자</td>
-                <td><span className="btn btn-success" style={{ padding: '4px 8px', fontSize: '12px' }}>완료</span></td>
-              </tr>
-              <tr>
-                <td>2024-01-15 13:45</td>
-                <td>주문 처리</td>
-                <td>관리자</td>
-                <td><span className="btn btn-warning" style={{ padding: '4px 8px', fontSize: '12px' }}>진행중</span></td>
-              </tr>
-              <tr>
-                <td>2024-01-15 12:20</td>
-                <td>사용자 가입</td>
-                <td>김철수</td>
-                <td><span className="btn btn-info" style={{ padding: '4px 8px', fontSize: '12px' }}>신규</span></td>
-              </tr>
-              <tr>
-                <td>2024-01-15 11:15</td>
-                <td>상품 수정</td>
-                <td>관리자</td>
-                <td><span className="btn btn-success" style={{ padding: '4px 8px', fontSize: '12px' }}>완료</span></td>
-              </tr>
+              {activity.length === 0 && (
+                <tr>
+                  <td colSpan="4">오늘 활동이 없습니다.</td>
+                </tr>
+              )}
+              {activity.map((item, index) => {
+                const label = ACTIVITY_LABELS[item.type] || { label: item.type, status: '', className: 'btn-info' };
+                return (
+                  <tr key={`${item.at}-${index}`}>
+                    <td>{item.at.replace('T', ' ').substring(0, 16)}</td>
+                    <td>{label.label}</td>
+                    <td>{describeActivity(item)}</td>
+                    <td><span className={`btn ${label.className}`} style={{ padding: '4px 8px', fontSize: '12px' }}>{label.status}</span></td>
+                  </tr>
+                );
+              })}
             </tbody>
           </table>
         </div>
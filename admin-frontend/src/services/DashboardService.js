@@ -0,0 +1,69 @@
+import axios from 'axios';
+
+const API_BASE_URL = 'http://localhost:8080/api/admin/dashboard';
+
+// 끊긴 뒤 다시 연결하기까지 대기 시간 (밀리초)
+const RECONNECT_DELAY_MS = 3000;
+
+class DashboardService {
+  // 스트림 연결용 단기 토큰 발급 (EventSource 는 Authorization 헤더를 보낼 수 없음)
+  static async getStreamToken() {
+    const response = await axios.post(`${API_BASE_URL}/stream-token`);
+    return response.data.token;
+  }
+
+  // 실시간 지표 구독 (snapshot: 연결 직후 전체 지표, metrics: 바뀐 지표 + 새 활동)
+  // 연결이 끊기면 새 토큰을 받아 다시 연결 (토큰은 연결할 때만 확인되고 금방 만료되므로 브라우저 자동 재연결은 쓰지 않음)
+  // 반환된 함수를 호출하면 구독 종료
+  static subscribe({ onSnapshot, onMetrics, onError }) {
+    let eventSource = null;
+    let reconnectTimer = null;
+    let closed = false;
+
+    const scheduleReconnect = () => {
+      if (!closed && !reconnectTimer) {
+        reconnectTimer = setTimeout(() => {
+          reconnectTimer = null;
+          connect();
+        }, RECONNECT_DELAY_MS);
+      }
+    };
+
+    const connect = async () => {
+      try {
+        const token = await this.getStreamToken();
+        if (closed) {
+          return;
+        }
+        eventSource = new EventSource(`${API_BASE_URL}/stream?token=${encodeURIComponent(token)}`);
+        eventSource.addEventListener('snapshot', (event) => onSnapshot(JSON.parse(event.data)));
+        eventSource.addEventListener('metrics', (event) => onMetrics(JSON.parse(event.data)));
+        eventSource.onerror = (error) => {
+          eventSource.close();
+          if (onError) {
+            onError(error);
+          }
+          scheduleReconnect();
+        };
+      } catch (error) {
+        console.error('Error connecting dashboard stream:', error);
+        if (onError) {
+          onError(error);
+        }
+        scheduleReconnect();
+      }
+    };
+
+    connect();
+
+    return () => {
+      closed = true;
+      clearTimeout(reconnectTimer);
+      if (eventSource) {
+        eventSource.close();
+      }
+    };
+  }
+}
+
+export default DashboardService;
@@ -0,0 +1,59 @@
+// 스레드-요청 모드 vs 가상 스레드 모드 부하 비교 (k6)
+// 동시 연결 5,000 개에서 읽기 위주 요청(상품 상세, 리뷰 목록, 카테고리 트리)을 반복하고 지연 시간/처리량을 기록
+//
+// 실행 (서버를 모드별로 한 번씩 띄운 뒤 같은 조건으로 실행, 가상 스레드는 Java 21 이상에서만 적용)
+//   VIRTUAL_THREADS_ENABLED=false mvn spring-boot:run -Dspring-boot.run.profiles=dev
+//   k6 run -e MODE=platform loadtest/virtual-threads.js
+//   VIRTUAL_THREADS_ENABLED=true mvn spring-boot:run -Dspring-boot.run.profiles=dev
+//   k6 run -e MODE=virtual loadtest/virtual-threads.js
+// 결과는 loadtest/<MODE>-summary.json 에 저장 (http_req_duration p95/p99, http_reqs, http_req_failed 비교)
+//
+// 5,000 VU 는 각자 연결을 유지하므로 부하 발생 장비의 ulimit -n 을 충분히 올려서 실행
+// 옵션: BASE_URL (기본 http://localhost:8080), VUS (기본 5000), DURATION (기본 2m), PRODUCT_IDS (기본 1-20)
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'unknown';
+const VUS = parseInt(__ENV.VUS || '5000', 10);
+const DURATION = __ENV.DURATION || '2m';
+const PRODUCT_IDS = parseInt(__ENV.PRODUCT_IDS || '20', 10);
+
+export const options = {
+  scenarios: {
+    concurrent_connections: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: VUS }, // 연결 수를 서서히 늘림
+        { duration: DURATION, target: VUS }, // 동시 연결 유지
+        { duration: '10s', target: 0 },
+      ],
+      gracefulRampDown: '10s',
+    },
+  },
+  summaryTrendStats: ['avg', 'med', 'p(90)', 'p(95)', 'p(99)', 'max'],
+  tags: { mode: MODE },
+};
+
+export default function () {
+  const productId = Math.floor(Math.random() * PRODUCT_IDS) + 1;
+  const responses = http.batch([
+    ['GET', `${BASE_URL}/api/products/${productId}`, null, { tags: { name: 'product' } }],
+    ['GET', `${BASE_URL}/api/reviews/products/${productId}?page=0&size=10`, null, { tags: { name: 'reviews' } }],
+    ['GET', `${BASE_URL}/api/categories/tree`, null, { tags: { name: 'categoryTree' } }],
+  ]);
+  responses.forEach((response) => check(response, { 'status 200': (r) => r.status === 200 }));
+  sleep(0.5 + Math.random()); // 사용자 대기 시간
+}
+
+export function handleSummary(data) {
+  const metrics = data.metrics;
+  const line = `[${MODE}] 요청 ${metrics.http_reqs.values.count}건, ${metrics.http_reqs.values.rate.toFixed(0)}건/초, ` +
+    `p95 ${metrics.http_req_duration.values['p(95)'].toFixed(0)}ms, p99 ${metrics.http_req_duration.values['p(99)'].toFixed(0)}ms, ` +
+    `실패율 ${(metrics.http_req_failed.values.rate * 100).toFixed(2)}%\n`;
+  return {
+    stdout: line,
+    [`loadtest/${MODE}-summary.json`]: JSON.stringify(data, null, 2),
+  };
+}
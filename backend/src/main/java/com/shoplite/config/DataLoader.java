@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class DataLoader implements CommandLineRunner {
@@ -26,12 +27,17 @@ public class DataLoader implements CommandLineRunner {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    // 초기 데이터를 한 트랜잭션으로 저장 (JDBC 배치 INSERT 적용)
     @Override
+    @Transactional
     public void run(String... args) throws Exception {
         // 기존 데이터 삭제 (개발용)
         userRepository.deleteAll();
         productRepository.deleteAll();
         categoryRepository.deleteAll();
+        // Hibernate 는 flush 할 때 INSERT 를 DELETE 보다 먼저 실행하므로, 삭제를 먼저 반영해야
+        // 같은 카테고리명/이메일로 다시 저장할 때 유니크 제약에 걸리지 않음
+        categoryRepository.flush();
         
         System.out.println("기존 데이터 삭제 완료, 새 데이터 생성 중...");
 
@@ -0,0 +1,19 @@
+package com.shoplite.config;
+
+import com.shoplite.util.OrderNumberGenerator;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+// 주문 번호 생성기 노드 ID 설정
+@Configuration
+public class OrderNumberConfig {
+
+    @Value("${order.node-id:0}")
+    private long nodeId;
+
+    @PostConstruct
+    public void init() {
+        OrderNumberGenerator.setNodeId(nodeId);
+    }
+}
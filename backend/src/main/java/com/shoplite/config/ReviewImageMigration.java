@@ -0,0 +1,126 @@
+package com.shoplite.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shoplite.model.Review;
+import com.shoplite.model.ReviewImage;
+import com.shoplite.repository.ReviewImageRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 리뷰 이미지 이전 (reviews.image_urls JSON -> review_images 행 + has_images)
+// 예전 컬럼이 남아 있는 DB 에서 한 번만 실제로 옮기고, 옮긴 리뷰는 image_urls 를 비워 다시 처리하지 않음
+// 초기 데이터 로드보다 먼저 실행
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReviewImageMigration implements CommandLineRunner {
+
+    private static final TypeReference<List<String>> URL_LIST_TYPE = new TypeReference<>() {};
+
+    private static final int CHUNK_SIZE = 100;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ReviewImageRepository reviewImageRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void run(String... args) {
+        int migrated = hasLegacyColumn() ? migrateImageUrls() : 0;
+
+        // 이미지 컬럼 도입 전에 작성된 리뷰 (has_images 가 비어 있으면 이미지 필터에서 빠짐)
+        int flagged = transactionTemplate.execute(status ->
+                jdbcTemplate.update("UPDATE reviews SET has_images = ? WHERE has_images IS NULL " +
+                        "AND EXISTS (SELECT 1 FROM review_images ri WHERE ri.review_id = reviews.id)", true)
+                + jdbcTemplate.update("UPDATE reviews SET has_images = ? WHERE has_images IS NULL", false));
+
+        if (migrated > 0 || flagged > 0) {
+            System.out.println("리뷰 이미지 이전 완료: 이미지 이전 " + migrated + "건, has_images 설정 " + flagged + "건");
+        }
+    }
+
+    private boolean hasLegacyColumn() {
+        try {
+            jdbcTemplate.queryForList("SELECT image_urls FROM reviews WHERE 1 = 0");
+            return true;
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+
+    // ID 순으로 묶음마다 한 트랜잭션으로 처리 (읽을 수 없는 값은 남겨두고 건너뜀)
+    private int migrateImageUrls() {
+        int migrated = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT id, image_urls FROM reviews WHERE image_urls IS NOT NULL AND id > ? ORDER BY id LIMIT " + CHUNK_SIZE,
+                    lastId);
+            if (rows.isEmpty()) {
+                return migrated;
+            }
+            lastId = ((Number) rows.get(rows.size() - 1).get("id")).longValue();
+            migrated += transactionTemplate.execute(status -> migrateChunk(rows));
+        }
+    }
+
+    private int migrateChunk(List<Map<String, Object>> rows) {
+        int migrated = 0;
+        List<ReviewImage> images = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            Long reviewId = ((Number) row.get("id")).longValue();
+            String imageUrls = (String) row.get("image_urls");
+
+            List<String> urls;
+            try {
+                urls = imageUrls.isBlank() ? List.of() : objectMapper.readValue(imageUrls, URL_LIST_TYPE);
+            } catch (Exception e) {
+                System.err.println("리뷰 이미지 이전 실패 (ID: " + reviewId + "): " + e.getMessage());
+                continue;
+            }
+
+            // 이미 review_images 가 있는 리뷰는 새 데이터가 기준
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM review_images WHERE review_id = ?", Integer.class, reviewId);
+            boolean hasImages = existing != null && existing > 0;
+            if (!hasImages) {
+                Review review = entityManager.getReference(Review.class, reviewId);
+                int order = 0;
+                for (String url : urls) {
+                    if (url != null && !url.isBlank()) {
+                        images.add(new ReviewImage(review, url, order++));
+                    }
+                }
+                hasImages = order > 0;
+            }
+
+            jdbcTemplate.update("UPDATE reviews SET has_images = ?, image_urls = NULL WHERE id = ?", hasImages, reviewId);
+            migrated++;
+        }
+        reviewImageRepository.saveAll(images);
+        reviewImageRepository.flush();
+        return migrated;
+    }
+}
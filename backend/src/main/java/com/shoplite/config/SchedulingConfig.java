@@ -0,0 +1,10 @@
+package com.shoplite.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 주기 작업 (카운터 플러시 등) 활성화
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,36 @@
+package com.shoplite.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+// 가상 스레드 모드에서만 적용되는 커넥션 풀 상한 (datasource.virtual-threads.max-pool-size)
+// 캐리어 스레드에 고정되는 드라이버(SQLite JDBC)는 커넥션 수만큼 캐리어를 점유하므로 풀을 작게 제한
+// 플랫폼 스레드 모드(기본)에서는 spring.datasource.hikari 설정을 그대로 사용
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPoolConfig {
+
+    @Bean
+    public static BeanPostProcessor virtualThreadPoolSizeLimiter(Environment environment) {
+        int maxPoolSize = environment.getProperty("datasource.virtual-threads.max-pool-size", Integer.class, 0);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (maxPoolSize > 0 && bean instanceof HikariDataSource dataSource
+                        && dataSource.getMaximumPoolSize() > maxPoolSize) {
+                    System.out.println("가상 스레드 모드 커넥션 풀 제한: " + dataSource.getMaximumPoolSize() + " -> " + maxPoolSize);
+                    dataSource.setMaximumPoolSize(maxPoolSize);
+                    if (dataSource.getMinimumIdle() > maxPoolSize) {
+                        dataSource.setMinimumIdle(maxPoolSize);
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.shoplite.controller;
+
+import com.shoplite.security.JwtAuthenticationFilter;
+import com.shoplite.service.AdminDashboardService;
+import com.shoplite.util.JwtUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 관리자 대시보드 (실시간 지표)
+@RestController
+@RequestMapping("/api/admin/dashboard")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminDashboardController {
+
+    @Autowired
+    private AdminDashboardService adminDashboardService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Value("${dashboard.stream-token-ttl-ms:60000}")
+    private long streamTokenTtlMs;
+
+    // 스트림 연결용 단기 토큰 발급 (브라우저 EventSource 는 Authorization 헤더를 보낼 수 없으므로 /stream?token= 으로 전달)
+    @PostMapping("/stream-token")
+    public ResponseEntity<Map<String, Object>> createStreamToken(HttpServletRequest request) {
+        String token = JwtAuthenticationFilter.getTokenFromRequest(request);
+        String username = jwtUtil.extractUsername(token);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("token", jwtUtil.generateStreamToken(username, streamTokenTtlMs));
+        response.put("expiresInMs", streamTokenTtlMs);
+        return ResponseEntity.ok(response);
+    }
+
+    // 실시간 지표 스트림 (snapshot 이벤트 후 변경 시마다 metrics 이벤트)
+    // 헤더 대신 ?token= 에 stream-token 으로 받은 토큰을 실어 연결
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return adminDashboardService.subscribe();
+    }
+
+    // 현재 지표 조회
+    @GetMapping("/metrics")
+    public ResponseEntity<Map<String, Object>> getMetrics() {
+        return ResponseEntity.ok(adminDashboardService.getMetrics());
+    }
+}
@@ -2,12 +2,15 @@ package com.shoplite.controller;
 
 import com.shoplite.model.CartItem;
 import com.shoplite.dto.CartItemDTO;
+import com.shoplite.dto.CartSummaryDTO;
 import com.shoplite.service.CartService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -27,6 +30,13 @@ public class CartController {
         return ResponseEntity.ok(cartItemDTOs);
     }
 
+    // 장바구니 요약 (항목 + 개수 + 총 금액을 한 번에 조회)
+    @GetMapping("/user/{userId}/summary")
+    public ResponseEntity<CartSummaryDTO> getCartSummary(@PathVariable Long userId) {
+        CartSummaryDTO summary = cartService.getCartSummary(userId);
+        return ResponseEntity.ok(summary);
+    }
+
     @PostMapping
     public ResponseEntity<CartItemDTO> addToCart(@RequestBody AddToCartRequest request) {
         CartItem cartItem = cartService.addToCart(request.getUserId(), request.getProductId(), request.getQuantity());
@@ -34,6 +44,27 @@ public class CartController {
         return ResponseEntity.ok(cartItemDTO);
     }
 
+    // 비회원 장바구니 병합 (로그인 시 한 번에 반영)
+    @PostMapping("/merge")
+    public ResponseEntity<CartSummaryDTO> mergeCart(@RequestBody MergeCartRequest request) {
+        if (request.getUserId() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 같은 상품이 여러 번 들어오면 수량 합산
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        if (request.getItems() != null) {
+            for (MergeCartItem item : request.getItems()) {
+                if (item == null) {
+                    continue;
+                }
+                quantities.merge(item.getProductId(), item.getQuantity() != null ? item.getQuantity() : 0, Integer::sum);
+            }
+        }
+        CartSummaryDTO summary = cartService.mergeCart(request.getUserId(), quantities);
+        return ResponseEntity.ok(summary);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<CartItemDTO> updateCartItem(@PathVariable Long id, @RequestBody UpdateCartItemRequest request) {
         CartItem updatedItem = cartService.updateCartItem(id, request.getQuantity());
@@ -96,6 +127,48 @@ public class CartController {
         }
     }
 
+    public static class MergeCartRequest {
+        private Long userId;
+        private List<MergeCartItem> items;
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public void setUserId(Long userId) {
+            this.userId = userId;
+        }
+
+        public List<MergeCartItem> getItems() {
+            return items;
+        }
+
+        public void setItems(List<MergeCartItem> items) {
+            this.items = items;
+        }
+    }
+
+    public static class MergeCartItem {
+        private Long productId;
+        private Integer quantity;
+
+        public Long getProductId() {
+            return productId;
+        }
+
+        public void setProductId(Long productId) {
+            this.productId = productId;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(Integer quantity) {
+            this.quantity = quantity;
+        }
+    }
+
     public static class UpdateCartItemRequest {
         private Integer quantity;
 
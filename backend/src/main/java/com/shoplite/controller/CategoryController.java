@@ -2,11 +2,14 @@ package com.shoplite.controller;
 
 import com.shoplite.model.Category;
 import com.shoplite.service.CategoryService;
+import com.shoplite.service.CategoryTreeCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/categories")
@@ -28,6 +31,21 @@ public class CategoryController {
         return ResponseEntity.ok(categories);
     }
 
+    // 카테고리 목록 + 상품 수 / 최저·최고가 (내비게이션용)
+    @GetMapping("/tree")
+    public ResponseEntity<List<CategoryTreeCache.CategoryNode>> getCategoryTree() {
+        List<CategoryTreeCache.CategoryNode> categories = categoryService.getCategoryTree();
+        return ResponseEntity.ok(categories);
+    }
+
+    // 카테고리 캐시 적중률 (관리자용)
+    @GetMapping("/cache-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getCacheStatistics() {
+        Map<String, Object> statistics = categoryService.getCacheStatistics();
+        return ResponseEntity.ok(statistics);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Category> getCategoryById(@PathVariable Long id) {
         Category category = categoryService.getCategoryById(id);
@@ -1,20 +1,26 @@
 package com.shoplite.controller;
 
+import com.shoplite.service.FileServingService;
+import com.shoplite.service.HotFileCache;
+import com.shoplite.service.ImageStorageService;
+import com.shoplite.service.ImageVariantService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.net.MalformedURLException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -31,83 +37,120 @@ public class FileController {
     @Value("${file.upload-dir:uploads}")
     private String uploadDir;
     
-    @Operation(summary = "파일 다운로드", description = "업로드된 파일을 다운로드합니다.")
+    @Autowired
+    private FileServingService fileServingService;
+    
+    @Autowired
+    private ImageStorageService imageStorageService;
+    
+    @Autowired
+    private ImageVariantService imageVariantService;
+    
+    @Autowired
+    private HotFileCache hotFileCache;
+    
+    @Operation(summary = "파일 다운로드", description = "업로드된 파일을 다운로드합니다. Range / If-None-Match / If-Modified-Since 요청을 지원합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "파일 다운로드 성공"),
-        @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음")
+        @ApiResponse(responseCode = "206", description = "요청한 범위 전송"),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (캐시 사용)"),
+        @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음"),
+        @ApiResponse(responseCode = "416", description = "요청 범위가 잘못됨")
     })
     @GetMapping("/{filename:.+}")
-    public ResponseEntity<Resource> downloadFile(
+    public void downloadFile(
             @Parameter(description = "파일명", required = true)
-            @PathVariable String filename) {
+            @PathVariable String filename,
+            @Parameter(description = "이미지 너비 (지정 시 리사이즈된 변형 제공)")
+            @RequestParam(required = false) Integer w,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
         
-        try {
-            Path filePath = Paths.get(uploadDir).resolve(filename).normalize();
-            Resource resource = new UrlResource(filePath.toUri());
-            
-            if (resource.exists() && resource.isReadable()) {
-                // 파일의 MIME 타입 결정
-                String contentType = null;
-                try {
-                    contentType = Files.probeContentType(filePath);
-                } catch (IOException ex) {
-                    // 기본값 사용
-                }
-                
-                if (contentType == null) {
-                    contentType = "application/octet-stream";
-                }
-                
-                return ResponseEntity.ok()
-                        .contentType(MediaType.parseMediaType(contentType))
-                        .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
-                        .body(resource);
-            } else {
-                return ResponseEntity.notFound().build();
-            }
-        } catch (MalformedURLException ex) {
-            return ResponseEntity.badRequest().build();
+        Path filePath = resolveFile(filename);
+        if (filePath == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
         }
+        
+        filePath = selectVariant(filePath, filename, w, request, response);
+        String contentType = fileServingService.getContentType(filePath);
+        fileServingService.serve(filePath, contentType,
+                "inline; filename=\"" + filePath.getFileName() + "\"", request, response);
     }
     
     @Operation(summary = "이미지 파일 제공", description = "이미지 파일을 브라우저에서 직접 볼 수 있도록 제공합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "이미지 제공 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (캐시 사용)"),
+        @ApiResponse(responseCode = "400", description = "이미지 파일이 아님"),
         @ApiResponse(responseCode = "404", description = "이미지를 찾을 수 없음")
     })
     @GetMapping("/image/{filename:.+}")
-    public ResponseEntity<Resource> getImage(
+    public void getImage(
             @Parameter(description = "이미지 파일명", required = true)
-            @PathVariable String filename) {
+            @PathVariable String filename,
+            @Parameter(description = "이미지 너비 (지정 시 리사이즈된 변형 제공)")
+            @RequestParam(required = false) Integer w,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
         
+        Path filePath = resolveFile(filename);
+        if (filePath == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        
+        // 이미지 파일인지 확인
+        String contentType = fileServingService.getContentType(filePath);
+        if (!contentType.startsWith("image/")) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        
+        filePath = selectVariant(filePath, filename, w, request, response);
+        fileServingService.serve(filePath, fileServingService.getContentType(filePath), null, true, request, response);
+    }
+    
+    @Operation(summary = "이미지 캐시 통계", description = "자주 요청되는 이미지 메모리 캐시의 적중률과 전송량을 조회합니다. (관리자 전용)")
+    @GetMapping("/cache-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getCacheStatistics() {
+        return ResponseEntity.ok(hotFileCache.getStatistics());
+    }
+    
+    // ?w= 요청이면 리사이즈 변형으로 교체 (없으면 바로 생성, WebP 를 받는 브라우저에는 WebP)
+    private Path selectVariant(Path filePath, String filename, Integer width,
+                               HttpServletRequest request, HttpServletResponse response) {
+        if (width == null || width <= 0) {
+            return filePath;
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        boolean acceptsWebp = accept != null && accept.contains("image/webp");
+        if (imageVariantService.isWebpSupported()) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
         try {
-            Path filePath = Paths.get(uploadDir).resolve(filename).normalize();
-            Resource resource = new UrlResource(filePath.toUri());
-            
-            if (resource.exists() && resource.isReadable()) {
-                String contentType = null;
-                try {
-                    contentType = Files.probeContentType(filePath);
-                } catch (IOException ex) {
-                    // 기본값 사용
-                }
-                
-                // 이미지 파일인지 확인
-                if (contentType == null || !contentType.startsWith("image/")) {
-                    return ResponseEntity.badRequest().build();
-                }
-                
-                return ResponseEntity.ok()
-                        .contentType(MediaType.parseMediaType(contentType))
-                        .header(HttpHeaders.CACHE_CONTROL, "max-age=3600") // 1시간 캐시
-                        .body(resource);
-            } else {
-                return ResponseEntity.notFound().build();
-            }
-        } catch (MalformedURLException ex) {
-            return ResponseEntity.badRequest().build();
+            return imageVariantService.getVariant(filename, width, acceptsWebp);
+        } catch (RuntimeException e) {
+            System.err.println("이미지 변형 제공 실패, 원본 사용: " + filename + " " + e.getMessage());
+            return filePath;
         }
     }
+    
+    // 업로드 디렉토리 안의 읽을 수 있는 파일만 허용 (경로 이탈 방지)
+    // 메모리 캐시에 있는 해시 이름 파일은 파일 시스템을 확인하지 않음
+    private Path resolveFile(String filename) {
+        Path baseDir = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path filePath = imageStorageService.resolve(filename); // 해시 이름은 샤딩 디렉토리에서 찾음
+        if (!filePath.startsWith(baseDir)) {
+            return null;
+        }
+        if (imageStorageService.isStoredName(filename) && hotFileCache.containsFresh(filePath, true)) {
+            return filePath;
+        }
+        if (!Files.isRegularFile(filePath) || !Files.isReadable(filePath)) {
+            return null;
+        }
+        return filePath;
+    }
 }
-
-
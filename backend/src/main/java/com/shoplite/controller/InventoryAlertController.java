@@ -0,0 +1,62 @@
+package com.shoplite.controller;
+
+import com.shoplite.service.LowStockWatcher;
+import com.shoplite.service.ProductService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 관리자 재고 부족 알림 (메모리에 유지되는 위험 상품 목록 기반)
+@RestController
+@RequestMapping("/api/admin/inventory")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+@PreAuthorize("hasRole('ADMIN')")
+public class InventoryAlertController {
+
+    @Autowired
+    private LowStockWatcher lowStockWatcher;
+
+    @Autowired
+    private ProductService productService;
+
+    // 재고 부족 상품 (위험도 순)
+    @GetMapping("/low-stock")
+    public ResponseEntity<Map<String, Object>> getLowStockProducts(@RequestParam(defaultValue = "50") int limit) {
+        List<LowStockWatcher.StockLevel> products = lowStockWatcher.getAtRiskProducts(Math.max(1, Math.min(limit, 500)));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("totalCount", lowStockWatcher.getAtRiskCount());
+        response.put("products", products);
+        return ResponseEntity.ok(response);
+    }
+
+    // 상품별 알림 기준 수량 변경 (null 이면 기본 기준 사용)
+    @PutMapping("/products/{id}/reorder-threshold")
+    public ResponseEntity<Map<String, Object>> updateReorderThreshold(@PathVariable Long id,
+                                                                      @RequestBody ReorderThresholdRequest request) {
+        productService.updateReorderThreshold(id, request.getThreshold());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("productId", id);
+        response.put("threshold", request.getThreshold());
+        return ResponseEntity.ok(response);
+    }
+
+    public static class ReorderThresholdRequest {
+        private Integer threshold;
+
+        public Integer getThreshold() {
+            return threshold;
+        }
+
+        public void setThreshold(Integer threshold) {
+            this.threshold = threshold;
+        }
+    }
+}
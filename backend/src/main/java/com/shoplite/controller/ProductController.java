@@ -43,6 +43,29 @@ public class ProductController {
         return ResponseEntity.ok(productDTOs);
     }
 
+    @Operation(summary = "인기 상품 조회", description = "최근 기간(1h, 24h, 7d) 동안 위시리스트/장바구니/주문이 많은 상품을 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "성공적으로 조회됨"),
+        @ApiResponse(responseCode = "400", description = "지원하지 않는 기간")
+    })
+    @SecurityRequirements() // 인증 불필요
+    @GetMapping("/popular")
+    public ResponseEntity<List<ProductDTO>> getPopularProducts(
+            @Parameter(description = "집계 기간 (1h, 24h, 7d)", example = "24h")
+            @RequestParam(defaultValue = "24h") String window,
+            @Parameter(description = "조회 개수", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<Product> products = productService.getPopularProducts(window, limit);
+            List<ProductDTO> productDTOs = products.stream()
+                    .map(ProductDTO::new)
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(productDTOs);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @Operation(summary = "상품 상세 조회", description = "ID로 특정 상품의 상세 정보를 조회합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "성공적으로 조회됨"),
@@ -4,6 +4,7 @@ import com.shoplite.dto.ReviewDTO;
 import com.shoplite.dto.ReviewRequest;
 import com.shoplite.security.JwtAuthenticationFilter;
 import com.shoplite.service.ReviewEnhancedService;
+import com.shoplite.service.ReviewModerationService;
 import com.shoplite.service.UserService;
 import com.shoplite.util.JwtUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,6 +20,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -180,6 +182,21 @@ public class ReviewEnhancedController {
         }
     }
     
+    @GetMapping("/admin/reported")
+    @Operation(summary = "신고 많은 리뷰 조회", description = "신고 수가 기준 이상인 리뷰를 신고 수 순으로 조회합니다. (관리자용)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getReviewsWithManyReports(
+            @Parameter(description = "최소 신고 수") @RequestParam(defaultValue = "5") long threshold) {
+        List<ReviewModerationService.ReportedReview> reported =
+                reviewEnhancedService.getReviewsWithManyReports(threshold);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", reported);
+        
+        return ResponseEntity.ok(response);
+    }
+    
     // JWT 토큰에서 사용자 ID 추출
     private Long getUserIdFromToken(HttpServletRequest request) {
         String token = JwtAuthenticationFilter.getTokenFromRequest(request);
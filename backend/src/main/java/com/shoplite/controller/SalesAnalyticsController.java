@@ -0,0 +1,63 @@
+package com.shoplite.controller;
+
+import com.shoplite.service.SalesRollupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// 관리자 매출 통계 (일별 사전 집계 기반)
+@RestController
+@RequestMapping("/api/admin/sales")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+@PreAuthorize("hasRole('ADMIN')")
+public class SalesAnalyticsController {
+
+    // 기간을 지정하지 않으면 최근 30일
+    private static final int DEFAULT_RANGE_DAYS = 30;
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    // 기간별 매출 요약 + 일별 추이
+    @GetMapping("/summary")
+    public ResponseEntity<Map<String, Object>> getSalesSummary(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        return ResponseEntity.ok(salesRollupService.getSalesSummary(start, end));
+    }
+
+    // 기간별 카테고리 매출
+    @GetMapping("/categories")
+    public ResponseEntity<List<Map<String, Object>>> getCategorySales(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        return ResponseEntity.ok(salesRollupService.getCategorySales(start, end));
+    }
+
+    // 기간별 매출 상위 상품
+    @GetMapping("/products")
+    public ResponseEntity<List<Map<String, Object>>> getTopProducts(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "20") int limit) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        return ResponseEntity.ok(salesRollupService.getTopProducts(start, end, Math.max(1, Math.min(limit, 100))));
+    }
+
+    // 주문 테이블 기준으로 집계 재구성 (불일치 복구용)
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild() {
+        return ResponseEntity.ok(salesRollupService.rebuild());
+    }
+}
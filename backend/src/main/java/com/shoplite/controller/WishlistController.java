@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -137,6 +138,29 @@ public class WishlistController {
         return ResponseEntity.ok(response);
     }
     
+    @Operation(summary = "위시리스트 상태 일괄 확인", description = "여러 상품에 대해 사용자의 찜 여부를 한 번에 확인합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "성공적으로 확인됨"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @PostMapping("/check-bulk")
+    public ResponseEntity<Map<String, Object>> checkWishlistStatusBulk(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "사용자 ID와 상품 ID 목록", required = true)
+            @RequestBody BulkCheckRequest request) {
+        
+        Map<String, Object> response = new HashMap<>();
+        if (request.getUserId() == null || request.getProductIds() == null) {
+            response.put("success", false);
+            response.put("message", "사용자 ID와 상품 ID 목록이 필요합니다.");
+            return ResponseEntity.badRequest().body(response);
+        }
+        
+        Map<Long, Boolean> results = wishlistService.checkWishlistStatus(request.getUserId(), request.getProductIds());
+        response.put("success", true);
+        response.put("results", results);
+        return ResponseEntity.ok(response);
+    }
+    
     @Operation(summary = "위시리스트 개수 조회", description = "사용자의 위시리스트 개수를 조회합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "성공적으로 조회됨")
@@ -151,6 +175,26 @@ public class WishlistController {
         response.put("count", count);
         return ResponseEntity.ok(response);
     }
+    
+    // 일괄 확인 요청 DTO
+    public static class BulkCheckRequest {
+        private Long userId;
+        private List<Long> productIds;
+        
+        public Long getUserId() {
+            return userId;
+        }
+        
+        public void setUserId(Long userId) {
+            this.userId = userId;
+        }
+        
+        public List<Long> getProductIds() {
+            return productIds;
+        }
+        
+        public void setProductIds(List<Long> productIds) {
+            this.productIds = productIds;
+        }
+    }
 }
-
-
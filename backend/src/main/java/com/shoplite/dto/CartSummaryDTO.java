@@ -0,0 +1,65 @@
+package com.shoplite.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "장바구니 요약 정보 DTO (항목 + 개수 + 총 금액)")
+public class CartSummaryDTO {
+    
+    @Schema(description = "장바구니 항목 목록")
+    private List<CartItemDTO> items;
+    
+    @Schema(description = "장바구니 항목 개수", example = "3")
+    private Long itemCount;
+    
+    @Schema(description = "총 수량", example = "5")
+    private Integer totalQuantity;
+    
+    @Schema(description = "총 금액", example = "125000.0")
+    private Double totalPrice;
+    
+    // 기본 생성자
+    public CartSummaryDTO() {}
+    
+    // 생성자
+    public CartSummaryDTO(List<CartItemDTO> items, Long itemCount, Integer totalQuantity, Double totalPrice) {
+        this.items = items;
+        this.itemCount = itemCount;
+        this.totalQuantity = totalQuantity;
+        this.totalPrice = totalPrice;
+    }
+    
+    // Getters and Setters
+    public List<CartItemDTO> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<CartItemDTO> items) {
+        this.items = items;
+    }
+    
+    public Long getItemCount() {
+        return itemCount;
+    }
+    
+    public void setItemCount(Long itemCount) {
+        this.itemCount = itemCount;
+    }
+    
+    public Integer getTotalQuantity() {
+        return totalQuantity;
+    }
+    
+    public void setTotalQuantity(Integer totalQuantity) {
+        this.totalQuantity = totalQuantity;
+    }
+    
+    public Double getTotalPrice() {
+        return totalPrice;
+    }
+    
+    public void setTotalPrice(Double totalPrice) {
+        this.totalPrice = totalPrice;
+    }
+}
@@ -0,0 +1,104 @@
+package com.shoplite.model;
+
+import java.time.LocalDate;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+// 일별 상품 매출 집계 (배송 완료일 기준)
+// 상품이 삭제되어도 집계는 남도록 외래 키 없이 ID만 보관하고, 카테고리별 집계를 위해 카테고리 ID를 함께 저장
+@Entity
+@Table(name = "daily_product_sales",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = {"sales_date", "product_id"})
+       },
+       indexes = {
+           @Index(name = "idx_daily_product_sales_date_category", columnList = "sales_date, category_id")
+       })
+public class DailyProductSales {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_product_sales_seq")
+    @SequenceGenerator(name = "daily_product_sales_seq", sequenceName = "daily_product_sales_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(nullable = false)
+    private Double revenue = 0.0;
+
+    @Column(name = "units_sold", nullable = false)
+    private Long unitsSold = 0L;
+
+    // 기본 생성자
+    public DailyProductSales() {}
+
+    // 생성자
+    public DailyProductSales(LocalDate salesDate, Long productId, Long categoryId) {
+        this.salesDate = salesDate;
+        this.productId = productId;
+        this.categoryId = categoryId;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDate getSalesDate() {
+        return salesDate;
+    }
+
+    public void setSalesDate(LocalDate salesDate) {
+        this.salesDate = salesDate;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public Double getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(Double revenue) {
+        this.revenue = revenue;
+    }
+
+    public Long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public void setUnitsSold(Long unitsSold) {
+        this.unitsSold = unitsSold;
+    }
+}
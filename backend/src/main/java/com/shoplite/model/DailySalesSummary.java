@@ -0,0 +1,108 @@
+package com.shoplite.model;
+
+import java.time.LocalDate;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+// 일별 매출 집계 (주문 상태 변경 이벤트로 증분 갱신)
+// 주문 수 / 취소 수는 주문일 기준, 매출 / 판매 수량 / 배송 완료 수는 배송 완료일 기준
+@Entity
+@Table(name = "daily_sales_summaries", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"sales_date"})
+})
+public class DailySalesSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_sales_summaries_seq")
+    @SequenceGenerator(name = "daily_sales_summaries_seq", sequenceName = "daily_sales_summaries_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "orders_placed", nullable = false)
+    private Long ordersPlaced = 0L;
+
+    @Column(name = "orders_cancelled", nullable = false)
+    private Long ordersCancelled = 0L;
+
+    @Column(name = "orders_delivered", nullable = false)
+    private Long ordersDelivered = 0L;
+
+    @Column(nullable = false)
+    private Double revenue = 0.0;
+
+    @Column(name = "units_sold", nullable = false)
+    private Long unitsSold = 0L;
+
+    // 기본 생성자
+    public DailySalesSummary() {}
+
+    // 생성자
+    public DailySalesSummary(LocalDate salesDate) {
+        this.salesDate = salesDate;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDate getSalesDate() {
+        return salesDate;
+    }
+
+    public void setSalesDate(LocalDate salesDate) {
+        this.salesDate = salesDate;
+    }
+
+    public Long getOrdersPlaced() {
+        return ordersPlaced;
+    }
+
+    public void setOrdersPlaced(Long ordersPlaced) {
+        this.ordersPlaced = ordersPlaced;
+    }
+
+    public Long getOrdersCancelled() {
+        return ordersCancelled;
+    }
+
+    public void setOrdersCancelled(Long ordersCancelled) {
+        this.ordersCancelled = ordersCancelled;
+    }
+
+    public Long getOrdersDelivered() {
+        return ordersDelivered;
+    }
+
+    public void setOrdersDelivered(Long ordersDelivered) {
+        this.ordersDelivered = ordersDelivered;
+    }
+
+    public Double getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(Double revenue) {
+        this.revenue = revenue;
+    }
+
+    public Long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public void setUnitsSold(Long unitsSold) {
+        this.unitsSold = unitsSold;
+    }
+}
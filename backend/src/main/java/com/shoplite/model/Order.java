@@ -1,5 +1,6 @@
 package com.shoplite.model;
 
+import com.shoplite.util.OrderNumberGenerator;
 import java.time.LocalDateTime;
 import java.util.List;
 import jakarta.persistence.CascadeType;
@@ -17,6 +18,7 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -26,7 +28,8 @@ import jakarta.validation.constraints.Positive;
 public class Order {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "order_number", nullable = false, unique = true)
@@ -102,7 +105,7 @@ public class Order {
     }
     
     private String generateOrderNumber() {
-        return "ORD-" + System.currentTimeMillis();
+        return OrderNumberGenerator.nextOrderNumber();
     }
     
     // Getters and Setters
@@ -0,0 +1,174 @@
+package com.shoplite.model;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+// 도메인 이벤트 outbox (업무 데이터와 같은 트랜잭션에서 기록, 백그라운드 디스패처가 전달)
+@Entity
+@Table(name = "outbox_events",
+       indexes = {
+           // 미처리 이벤트 조회용
+           @Index(name = "idx_outbox_events_pending", columnList = "processed_at, available_at, id")
+       })
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 50)
+    private EventType eventType;
+
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+
+    // 이벤트 내용 (JSON)
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // 다음 전달 시도 가능 시각 (실패 시 뒤로 미룸)
+    @Column(name = "available_at")
+    private LocalDateTime availableAt;
+
+    // 전달 완료 시각 (재시도 한도를 넘긴 이벤트도 last_error 와 함께 완료 처리)
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    // 이미 전달에 성공한 핸들러 (쉼표 구분, 재시도 시 실패한 핸들러에만 다시 전달)
+    @Column(name = "delivered_handlers", length = 1000)
+    private String deliveredHandlers;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (availableAt == null) {
+            availableAt = createdAt;
+        }
+    }
+
+    // 기본 생성자
+    public OutboxEvent() {}
+
+    // 생성자
+    public OutboxEvent(EventType eventType, Long aggregateId, String payload) {
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public EventType getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(EventType eventType) {
+        this.eventType = eventType;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public void setAggregateId(Long aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getAvailableAt() {
+        return availableAt;
+    }
+
+    public void setAvailableAt(LocalDateTime availableAt) {
+        this.availableAt = availableAt;
+    }
+
+    public LocalDateTime getProcessedAt() {
+        return processedAt;
+    }
+
+    public void setProcessedAt(LocalDateTime processedAt) {
+        this.processedAt = processedAt;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(Integer attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public String getDeliveredHandlers() {
+        return deliveredHandlers;
+    }
+
+    public void setDeliveredHandlers(String deliveredHandlers) {
+        this.deliveredHandlers = deliveredHandlers;
+    }
+
+    // 이벤트 종류
+    public enum EventType {
+        ORDER_CREATED,      // 주문 생성 (즉시 결제 주문)
+        ORDER_CONFIRMED,    // 결제 후 주문 확정
+        ORDER_STATUS_CHANGED, // 주문 상태 변경 (생성 포함, 매출 집계용)
+        PAYMENT_APPROVED,   // 결제 승인
+        PAYMENT_FAILED,     // 결제 실패
+        REVIEW_CREATED,     // 리뷰 작성
+        REVIEW_UPDATED,     // 리뷰 수정
+        REVIEW_DELETED,     // 리뷰 삭제
+        WISHLIST_ADDED,     // 위시리스트 추가
+        WISHLIST_REMOVED    // 위시리스트 삭제
+    }
+}
@@ -16,6 +16,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -27,7 +28,8 @@ import jakarta.validation.constraints.Positive;
 public class Product {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_seq")
+    @SequenceGenerator(name = "products_seq", sequenceName = "products_seq", allocationSize = 50)
     @Schema(description = "상품 ID", example = "1", accessMode = Schema.AccessMode.READ_ONLY)
     private Long id;
     
@@ -54,6 +56,11 @@ public class Product {
     @Schema(description = "재고 수량", example = "50", defaultValue = "0")
     private Integer stockQuantity = 0;
     
+    // 재고 부족 알림 기준 수량 (없으면 기본값 사용)
+    @Column(name = "reorder_threshold")
+    @Schema(description = "재고 부족 알림 기준 수량 (미지정 시 기본값)", example = "10")
+    private Integer reorderThreshold;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     private Category category;
@@ -161,6 +168,14 @@ public class Product {
         this.stockQuantity = stockQuantity;
     }
     
+    public Integer getReorderThreshold() {
+        return reorderThreshold;
+    }
+    
+    public void setReorderThreshold(Integer reorderThreshold) {
+        this.reorderThreshold = reorderThreshold;
+    }
+    
     public Category getCategory() {
         return category;
     }
@@ -1,7 +1,12 @@
 package com.shoplite.model;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.annotations.DynamicUpdate;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -10,22 +15,37 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews",
+       indexes = {
+           // 리뷰 목록 정렬 방식별 인덱스
+           @Index(name = "idx_reviews_product_status_created", columnList = "product_id, status, created_at"),
+           @Index(name = "idx_reviews_product_status_helpful", columnList = "product_id, status, helpfulness_score, created_at"),
+           @Index(name = "idx_reviews_product_status_rating", columnList = "product_id, status, rating, created_at"),
+           // 평점 낮은 순(rating ASC, created_at DESC)은 방향이 섞여 위 인덱스로는 정렬을 피할 수 없음
+           @Index(name = "idx_reviews_product_status_rating_asc", columnList = "product_id, status, rating, created_at DESC"),
+           @Index(name = "idx_reviews_product_has_images", columnList = "product_id, status, has_images")
+       })
+@DynamicUpdate // 변경된 컬럼만 UPDATE (좋아요 수 일괄 반영과 충돌 방지)
 @Schema(description = "상품 리뷰 정보")
 public class Review {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reviews_seq")
+    @SequenceGenerator(name = "reviews_seq", sequenceName = "reviews_seq", allocationSize = 50)
     @Schema(description = "리뷰 ID", example = "1", accessMode = Schema.AccessMode.READ_ONLY)
     private Long id;
     
@@ -58,10 +78,16 @@ public class Review {
     @Schema(description = "리뷰 수정일", accessMode = Schema.AccessMode.READ_ONLY)
     private LocalDateTime updatedAt;
     
-    // 리뷰 이미지 URL들 (JSON 배열로 저장)
-    @Column(name = "image_urls", columnDefinition = "TEXT")
-    @Schema(description = "리뷰 이미지 URL 목록 (JSON 배열)")
-    private String imageUrls;
+    // 리뷰 이미지 (review_images 테이블)
+    @OneToMany(mappedBy = "review", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @OrderBy("displayOrder ASC")
+    @JsonIgnore
+    private List<ReviewImage> images = new ArrayList<>();
+
+    // 이미지 포함 여부 (이미지 필터용 인덱스 컬럼)
+    @Column(name = "has_images")
+    @Schema(description = "이미지 포함 여부", example = "true")
+    private Boolean hasImages = false;
 
     // 좋아요 수
     @Column(name = "like_count")
@@ -170,12 +196,28 @@ public class Review {
         this.updatedAt = updatedAt;
     }
 
-    public String getImageUrls() {
-        return imageUrls;
+    public List<ReviewImage> getImages() {
+        return images;
+    }
+
+    public void setImages(List<ReviewImage> images) {
+        this.images = images;
+    }
+
+    public Boolean getHasImages() {
+        return hasImages;
+    }
+
+    public void setHasImages(Boolean hasImages) {
+        this.hasImages = hasImages;
     }
 
-    public void setImageUrls(String imageUrls) {
-        this.imageUrls = imageUrls;
+    // 이미지 URL 목록 추가 (순서 유지)
+    public void addImageUrls(List<String> imageUrls) {
+        for (String imageUrl : imageUrls) {
+            images.add(new ReviewImage(this, imageUrl, images.size()));
+        }
+        this.hasImages = !images.isEmpty();
     }
 
     public Integer getLikeCount() {
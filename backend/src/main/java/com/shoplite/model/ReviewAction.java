@@ -10,20 +10,23 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
-import jakarta.persistence.UniqueConstraint;
 
 @Entity
+// SQLite 는 ALTER TABLE 로 유니크 제약을 추가할 수 없어 ddl-auto update 로는 생성되지 않으므로 유니크 인덱스로 선언
 @Table(name = "review_actions", 
-       uniqueConstraints = @UniqueConstraint(columnNames = {"review_id", "user_id", "action_type"}))
+       indexes = @Index(name = "ux_review_actions_review_user_type", columnList = "review_id, user_id, action_type", unique = true))
 @Schema(description = "리뷰 액션 (좋아요/신고)")
 public class ReviewAction {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_actions_seq")
+    @SequenceGenerator(name = "review_actions_seq", sequenceName = "review_actions_seq", allocationSize = 50)
     @Schema(description = "액션 ID", example = "1", accessMode = Schema.AccessMode.READ_ONLY)
     private Long id;
     
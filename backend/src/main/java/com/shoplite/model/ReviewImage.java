@@ -0,0 +1,84 @@
+package com.shoplite.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "review_images",
+       indexes = @Index(name = "idx_review_images_review", columnList = "review_id, display_order"))
+@Schema(description = "리뷰 이미지")
+public class ReviewImage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_images_seq")
+    @SequenceGenerator(name = "review_images_seq", sequenceName = "review_images_seq", allocationSize = 50)
+    @Schema(description = "이미지 ID", example = "1", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "review_id", nullable = false)
+    @Schema(description = "리뷰 정보")
+    private Review review;
+
+    @Column(name = "image_url", nullable = false, length = 500)
+    @Schema(description = "이미지 URL", example = "/api/files/image/sample.jpg")
+    private String imageUrl;
+
+    // 리뷰 내 이미지 순서
+    @Column(name = "display_order", nullable = false)
+    @Schema(description = "표시 순서", example = "0")
+    private Integer displayOrder = 0;
+
+    // 기본 생성자
+    public ReviewImage() {}
+
+    // 생성자
+    public ReviewImage(Review review, String imageUrl, Integer displayOrder) {
+        this.review = review;
+        this.imageUrl = imageUrl;
+        this.displayOrder = displayOrder;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Review getReview() {
+        return review;
+    }
+
+    public void setReview(Review review) {
+        this.review = review;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+
+    public Integer getDisplayOrder() {
+        return displayOrder;
+    }
+
+    public void setDisplayOrder(Integer displayOrder) {
+        this.displayOrder = displayOrder;
+    }
+}
@@ -0,0 +1,51 @@
+package com.shoplite.model;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+
+// 매출 집계에 이미 반영한 outbox 이벤트 ID (같은 이벤트가 다시 전달되어도 한 번만 반영)
+@Entity
+@Table(name = "sales_rollup_applied_events")
+public class SalesRollupAppliedEvent {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "applied_at")
+    private LocalDateTime appliedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        appliedAt = LocalDateTime.now();
+    }
+
+    // 기본 생성자
+    public SalesRollupAppliedEvent() {}
+
+    // 생성자
+    public SalesRollupAppliedEvent(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    // Getters and Setters
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public LocalDateTime getAppliedAt() {
+        return appliedAt;
+    }
+
+    public void setAppliedAt(LocalDateTime appliedAt) {
+        this.appliedAt = appliedAt;
+    }
+}
@@ -7,20 +7,23 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
-import jakarta.persistence.UniqueConstraint;
 
 @Entity
-@Table(name = "wishlists", uniqueConstraints = {
-    @UniqueConstraint(columnNames = {"user_id", "product_id"})
+// SQLite 는 ALTER TABLE 로 유니크 제약을 추가할 수 없어 ddl-auto update 로는 생성되지 않으므로 유니크 인덱스로 선언
+@Table(name = "wishlists", indexes = {
+    @Index(name = "ux_wishlists_user_product", columnList = "user_id, product_id", unique = true)
 })
 public class Wishlist {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "wishlists_seq")
+    @SequenceGenerator(name = "wishlists_seq", sequenceName = "wishlists_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
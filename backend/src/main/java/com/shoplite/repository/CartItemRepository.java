@@ -1,22 +1,33 @@
 package com.shoplite.repository;
 
 import com.shoplite.model.CartItem;
-import com.shoplite.model.Product;
-import com.shoplite.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
-    List<CartItem> findByUser(User user);
     List<CartItem> findByUserId(Long userId);
-    Optional<CartItem> findByUserAndProduct(User user, Product product);
-    void deleteByUser(User user);
-    void deleteByUserAndProduct(User user, Product product);
-    Long countByUser(User user);
+
+    // 사용자 장바구니 일괄 삭제 (항목을 조회하지 않고 DELETE 한 번)
+    @Modifying
+    @Query("DELETE FROM CartItem c WHERE c.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    // 장바구니 항목의 사용자 ID
+    @Query("SELECT c.user.id FROM CartItem c WHERE c.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+
+    // 수량 일괄 반영 (write-behind)
+    @Modifying
+    @Query("UPDATE CartItem c SET c.quantity = :quantity, c.updatedAt = :updatedAt WHERE c.id = :id")
+    int updateQuantity(@Param("id") Long id, @Param("quantity") Integer quantity, @Param("updatedAt") LocalDateTime updatedAt);
 }
 
 
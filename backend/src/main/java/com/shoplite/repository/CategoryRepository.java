@@ -1,7 +1,9 @@
 package com.shoplite.repository;
 
 import com.shoplite.model.Category;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,7 +13,11 @@ import java.util.Optional;
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     Optional<Category> findByName(String name);
     List<Category> findByIsActiveTrue();
+
+    // 쿼리 캐시 사용 (categories 테이블이 변경되면 Hibernate 가 자동으로 무효화)
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<Category> findByIsActiveTrueOrderByDisplayOrderAsc();
+
     List<Category> findByNameContainingIgnoreCase(String name);
     boolean existsByName(String name);
 }
@@ -0,0 +1,34 @@
+package com.shoplite.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import com.shoplite.model.DailyProductSales;
+
+@Repository
+public interface DailyProductSalesRepository extends JpaRepository<DailyProductSales, Long> {
+
+    Optional<DailyProductSales> findBySalesDateAndProductId(LocalDate salesDate, Long productId);
+
+    // 기간별 카테고리 매출 [categoryId, revenue, unitsSold] (매출 내림차순)
+    @Query("SELECT d.categoryId, SUM(d.revenue), SUM(d.unitsSold) FROM DailyProductSales d " +
+            "WHERE d.salesDate BETWEEN :from AND :to " +
+            "GROUP BY d.categoryId ORDER BY SUM(d.revenue) DESC")
+    List<Object[]> sumByCategory(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 기간별 상품 매출 [productId, categoryId, revenue, unitsSold] (매출 내림차순)
+    @Query("SELECT d.productId, MAX(d.categoryId), SUM(d.revenue), SUM(d.unitsSold) FROM DailyProductSales d " +
+            "WHERE d.salesDate BETWEEN :from AND :to " +
+            "GROUP BY d.productId ORDER BY SUM(d.revenue) DESC")
+    List<Object[]> sumByProduct(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM DailyProductSales d")
+    int deleteAllRows();
+}
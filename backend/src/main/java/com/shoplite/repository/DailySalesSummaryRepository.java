@@ -0,0 +1,32 @@
+package com.shoplite.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import com.shoplite.model.DailySalesSummary;
+
+@Repository
+public interface DailySalesSummaryRepository extends JpaRepository<DailySalesSummary, Long> {
+
+    Optional<DailySalesSummary> findBySalesDate(LocalDate salesDate);
+
+    // 기간별 일별 집계 (날짜 오름차순)
+    List<DailySalesSummary> findBySalesDateBetweenOrderBySalesDateAsc(LocalDate from, LocalDate to);
+
+    // 전체 매출 합계 (배송 완료 기준)
+    @Query("SELECT COALESCE(SUM(s.revenue), 0) FROM DailySalesSummary s")
+    Double sumRevenue();
+
+    // 특정 날짜 이후 주문 수
+    @Query("SELECT COALESCE(SUM(s.ordersPlaced), 0) FROM DailySalesSummary s WHERE s.salesDate >= :from")
+    Long sumOrdersPlacedFrom(@Param("from") LocalDate from);
+
+    @Modifying
+    @Query("DELETE FROM DailySalesSummary s")
+    int deleteAllRows();
+}
@@ -23,11 +23,15 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT o FROM Order o WHERE o.user.email = :email ORDER BY o.createdAt DESC")
     List<Order> findByUserEmailOrderByCreatedAtDesc(@Param("email") String email);
     
-    @Query("SELECT SUM(o.totalAmount) FROM Order o WHERE o.status = :status")
-    Double getTotalAmountByStatus(@Param("status") Order.OrderStatus status);
+    // 매출 집계 재구성용 주문 요약 [createdAt, status, deliveredAt, totalAmount]
+    @Query("SELECT o.createdAt, o.status, o.deliveredAt, o.totalAmount FROM Order o")
+    List<Object[]> findSalesRollupRows();
     
-    @Query("SELECT COUNT(o) FROM Order o WHERE o.createdAt >= :date")
-    Long countOrdersAfterDate(@Param("date") LocalDateTime date);
+    // 매출 집계 재구성용 주문 상품 [createdAt, deliveredAt, productId, categoryId, quantity, price]
+    @Query("SELECT o.createdAt, o.deliveredAt, p.id, c.id, oi.quantity, oi.price " +
+           "FROM OrderItem oi JOIN oi.order o JOIN oi.product p LEFT JOIN p.category c " +
+           "WHERE o.status = :status")
+    List<Object[]> findSalesRollupItemRows(@Param("status") Order.OrderStatus status);
 
     // 구매 확인을 위한 메서드 추가
     @Query("SELECT CASE WHEN COUNT(o) > 0 THEN true ELSE false END FROM Order o JOIN o.orderItems oi WHERE o.user.id = :userId AND oi.product.id = :productId AND o.status = 'COMPLETED'")
@@ -0,0 +1,47 @@
+package com.shoplite.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import com.shoplite.model.OutboxEvent;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 전달 대기 중인 이벤트 (기록 순서대로)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.processedAt IS NULL AND e.availableAt <= :now ORDER BY e.id")
+    List<OutboxEvent> findPending(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 종류별 미전달 이벤트 ID
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.processedAt IS NULL AND e.eventType = :eventType")
+    List<Long> findPendingIdsByType(@Param("eventType") OutboxEvent.EventType eventType);
+
+    // 전달 완료 처리
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.processedAt = :processedAt, e.lastError = NULL WHERE e.id IN :ids")
+    int markProcessed(@Param("ids") Collection<Long> ids, @Param("processedAt") LocalDateTime processedAt);
+
+    // 전달 실패 기록 (재시도 한도를 넘기면 processedAt 을 채워 더 이상 전달하지 않음)
+    // 성공한 핸들러를 함께 기록해 재시도 때 다시 전달하지 않음
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = :attempts, e.lastError = :lastError, " +
+            "e.deliveredHandlers = :deliveredHandlers, " +
+            "e.availableAt = :availableAt, e.processedAt = :processedAt WHERE e.id = :id")
+    int recordFailure(@Param("id") Long id,
+            @Param("attempts") int attempts,
+            @Param("lastError") String lastError,
+            @Param("deliveredHandlers") String deliveredHandlers,
+            @Param("availableAt") LocalDateTime availableAt,
+            @Param("processedAt") LocalDateTime processedAt);
+
+    // 보관 기간이 지난 정상 처리 이벤트 삭제 (실패 이벤트는 확인용으로 남김)
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.processedAt < :before AND e.lastError IS NULL")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
@@ -25,6 +25,8 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     
     List<Payment> findByOrderUserIdOrderByCreatedAtDesc(Long userId);
     
+    long countByStatusAndCreatedAtGreaterThanEqual(Payment.PaymentStatus status, LocalDateTime from);
+    
     boolean existsByPaymentKey(String paymentKey);
     
     boolean existsByOrderIdString(String orderIdString);
@@ -2,6 +2,9 @@ package com.shoplite.repository;
 
 import com.shoplite.model.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,5 +13,23 @@ import java.util.List;
 public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findByNameContainingIgnoreCase(String name);
     List<Product> findByPriceBetween(Double minPrice, Double maxPrice);
+
+    // 카테고리 집계용 (상품 ID, 카테고리 ID, 가격, 활성 여부)
+    @Query("SELECT p.id, c.id, p.price, p.isActive FROM Product p LEFT JOIN p.category c")
+    List<Object[]> findCategoryStatsRows();
+
+    // 재고 감시용 (상품 ID, 이름, 재고, 알림 기준 수량, 수정 시각)
+    @Query("SELECT p.id, p.name, p.stockQuantity, p.reorderThreshold, p.updatedAt FROM Product p")
+    List<Object[]> findStockLevelRows();
+
+    // 재고 부족 알림 기준 수량 변경
+    @Modifying
+    @Query("UPDATE Product p SET p.reorderThreshold = :threshold WHERE p.id = :id")
+    int updateReorderThreshold(@Param("id") Long id, @Param("threshold") Integer threshold);
+
+    // 평균 평점 / 리뷰 개수만 갱신 (동시에 바뀌는 재고 등 다른 컬럼을 덮어쓰지 않음)
+    @Modifying
+    @Query("UPDATE Product p SET p.averageRating = :averageRating, p.reviewCount = :reviewCount WHERE p.id = :id")
+    int updateRating(@Param("id") Long id, @Param("averageRating") Double averageRating, @Param("reviewCount") Integer reviewCount);
 }
 
@@ -2,10 +2,12 @@ package com.shoplite.repository;
 
 import com.shoplite.model.ReviewAction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +29,12 @@ public interface ReviewActionRepository extends JpaRepository<ReviewAction, Long
     @Query("SELECT COUNT(ra) FROM ReviewAction ra WHERE ra.review.id = :reviewId AND ra.actionType = 'REPORT'")
     Long countReportsByReviewId(@Param("reviewId") Long reviewId);
     
+    // 여러 리뷰의 신고 수 일괄 조회 (리뷰 ID, 신고 수)
+    @Query("SELECT ra.review.id, COUNT(ra) FROM ReviewAction ra " +
+           "WHERE ra.review.id IN :reviewIds AND ra.actionType = 'REPORT' " +
+           "GROUP BY ra.review.id")
+    List<Object[]> countReportsByReviewIds(@Param("reviewIds") Collection<Long> reviewIds);
+    
     // 사용자가 좋아요한 리뷰 목록
     @Query("SELECT ra.review.id FROM ReviewAction ra WHERE ra.user.id = :userId AND ra.actionType = 'LIKE'")
     List<Long> findLikedReviewIdsByUserId(@Param("userId") Long userId);
@@ -35,6 +43,13 @@ public interface ReviewActionRepository extends JpaRepository<ReviewAction, Long
     @Query("SELECT ra.review.id FROM ReviewAction ra WHERE ra.user.id = :userId AND ra.actionType = 'REPORT'")
     List<Long> findReportedReviewIdsByUserId(@Param("userId") Long userId);
     
+    // 특정 리뷰에 대한 사용자의 액션 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM ReviewAction ra WHERE ra.review.id = :reviewId AND ra.user.id = :userId AND ra.actionType = :actionType")
+    int deleteByReviewIdAndUserIdAndActionType(@Param("reviewId") Long reviewId,
+            @Param("userId") Long userId,
+            @Param("actionType") ReviewAction.ActionType actionType);
+    
     // 특정 리뷰에 대한 사용자의 액션 존재 여부
     boolean existsByReviewIdAndUserIdAndActionType(
             Long reviewId, Long userId, ReviewAction.ActionType actionType);
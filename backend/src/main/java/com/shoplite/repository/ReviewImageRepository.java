@@ -0,0 +1,20 @@
+package com.shoplite.repository;
+
+import com.shoplite.model.ReviewImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReviewImageRepository extends JpaRepository<ReviewImage, Long> {
+
+    // 여러 리뷰의 이미지 URL 일괄 조회 (리뷰 ID, 이미지 URL)
+    @Query("SELECT ri.review.id, ri.imageUrl FROM ReviewImage ri " +
+           "WHERE ri.review.id IN :reviewIds " +
+           "ORDER BY ri.review.id, ri.displayOrder")
+    List<Object[]> findImageUrlsByReviewIds(@Param("reviewIds") Collection<Long> reviewIds);
+}
@@ -4,10 +4,12 @@ import com.shoplite.model.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -57,7 +59,7 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     Page<Review> findVerifiedReviewsByProductId(@Param("productId") Long productId, Pageable pageable);
 
     // 이미지가 있는 리뷰만 조회 (페이징)
-    @Query("SELECT r FROM Review r WHERE r.product.id = :productId AND r.imageUrls IS NOT NULL AND r.imageUrls != '' AND r.status = 'ACTIVE' ORDER BY r.createdAt DESC")
+    @Query("SELECT r FROM Review r WHERE r.product.id = :productId AND r.hasImages = true AND r.status = 'ACTIVE' ORDER BY r.createdAt DESC")
     Page<Review> findReviewsWithImagesByProductId(@Param("productId") Long productId, Pageable pageable);
 
     // 도움이 된 순으로 정렬 (페이징)
@@ -80,23 +82,72 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT r FROM Review r WHERE r.product.id = :productId AND r.status = 'ACTIVE' ORDER BY r.rating ASC, r.createdAt DESC")
     Page<Review> findByProductIdOrderByRatingAsc(@Param("productId") Long productId, Pageable pageable);
 
-    // 복합 필터링 (평점 + 구매확인 + 이미지)
-    @Query("SELECT r FROM Review r WHERE r.product.id = :productId " +
+    // 복합 필터링 조건 (평점 + 구매확인 + 이미지)
+    // 정렬 방식별로 쿼리를 분리해 (product_id, status, 정렬 컬럼) 인덱스를 그대로 타도록 함
+    String FILTERED_REVIEWS = "SELECT r FROM Review r WHERE r.product.id = :productId " +
+            "AND r.status = 'ACTIVE' " +
             "AND (:rating IS NULL OR r.rating = :rating) " +
             "AND (:verifiedOnly = false OR r.isVerifiedPurchase = true) " +
-            "AND (:withImages = false OR (r.imageUrls IS NOT NULL AND r.imageUrls != '')) " +
-            "AND r.status = 'ACTIVE' " +
-            "ORDER BY " +
-            "CASE WHEN :sortBy = 'helpful' THEN r.helpfulnessScore END DESC, " +
-            "CASE WHEN :sortBy = 'newest' THEN r.createdAt END DESC, " +
-            "CASE WHEN :sortBy = 'oldest' THEN r.createdAt END ASC, " +
-            "CASE WHEN :sortBy = 'rating_desc' THEN r.rating END DESC, " +
-            "CASE WHEN :sortBy = 'rating_asc' THEN r.rating END ASC, " +
-            "r.createdAt DESC")
-    Page<Review> findByComplexFilter(@Param("productId") Long productId,
+            "AND (:withImages = false OR r.hasImages = true) ";
+
+    // 복합 필터링 - 최신순
+    @Query(FILTERED_REVIEWS + "ORDER BY r.createdAt DESC")
+    Page<Review> findFilteredOrderByNewest(@Param("productId") Long productId,
+            @Param("rating") Integer rating,
+            @Param("verifiedOnly") Boolean verifiedOnly,
+            @Param("withImages") Boolean withImages,
+            Pageable pageable);
+
+    // 복합 필터링 - 오래된 순
+    @Query(FILTERED_REVIEWS + "ORDER BY r.createdAt ASC")
+    Page<Review> findFilteredOrderByOldest(@Param("productId") Long productId,
+            @Param("rating") Integer rating,
+            @Param("verifiedOnly") Boolean verifiedOnly,
+            @Param("withImages") Boolean withImages,
+            Pageable pageable);
+
+    // 복합 필터링 - 도움이 된 순
+    @Query(FILTERED_REVIEWS + "ORDER BY r.helpfulnessScore DESC, r.createdAt DESC")
+    Page<Review> findFilteredOrderByHelpful(@Param("productId") Long productId,
             @Param("rating") Integer rating,
             @Param("verifiedOnly") Boolean verifiedOnly,
             @Param("withImages") Boolean withImages,
-            @Param("sortBy") String sortBy,
             Pageable pageable);
+
+    // 복합 필터링 - 평점 높은 순
+    @Query(FILTERED_REVIEWS + "ORDER BY r.rating DESC, r.createdAt DESC")
+    Page<Review> findFilteredOrderByRatingDesc(@Param("productId") Long productId,
+            @Param("rating") Integer rating,
+            @Param("verifiedOnly") Boolean verifiedOnly,
+            @Param("withImages") Boolean withImages,
+            Pageable pageable);
+
+    // 복합 필터링 - 평점 낮은 순
+    @Query(FILTERED_REVIEWS + "ORDER BY r.rating ASC, r.createdAt DESC")
+    Page<Review> findFilteredOrderByRatingAsc(@Param("productId") Long productId,
+            @Param("rating") Integer rating,
+            @Param("verifiedOnly") Boolean verifiedOnly,
+            @Param("withImages") Boolean withImages,
+            Pageable pageable);
+
+    // 좋아요 증감분 일괄 반영 (좋아요 수와 도움이 된 점수를 함께 조정)
+    @Modifying
+    @Query("UPDATE Review r SET r.likeCount = COALESCE(r.likeCount, 0) + :delta, " +
+            "r.helpfulnessScore = COALESCE(r.helpfulnessScore, 0) + :delta " +
+            "WHERE r.id = :reviewId")
+    int addLikeCountDelta(@Param("reviewId") Long reviewId, @Param("delta") int delta);
+
+    // 신고 수 반영 (도움이 된 점수 재계산 포함)
+    @Modifying
+    @Query("UPDATE Review r SET r.reportCount = :reportCount, " +
+            "r.helpfulnessScore = COALESCE(r.likeCount, 0) - :reportCount " +
+            "WHERE r.id = :reviewId")
+    int updateReportCount(@Param("reviewId") Long reviewId, @Param("reportCount") int reportCount);
+
+    // 리뷰 상태 일괄 변경 (현재 상태가 fromStatus 인 리뷰만)
+    @Modifying
+    @Query("UPDATE Review r SET r.status = :toStatus WHERE r.id IN :reviewIds AND r.status = :fromStatus")
+    int updateStatusByIds(@Param("reviewIds") Collection<Long> reviewIds,
+            @Param("fromStatus") Review.ReviewStatus fromStatus,
+            @Param("toStatus") Review.ReviewStatus toStatus);
 }
@@ -0,0 +1,18 @@
+package com.shoplite.repository;
+
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import com.shoplite.model.SalesRollupAppliedEvent;
+
+@Repository
+public interface SalesRollupAppliedEventRepository extends JpaRepository<SalesRollupAppliedEvent, Long> {
+
+    // outbox 에서 정리된 이벤트는 다시 전달되지 않으므로 반영 기록도 함께 정리
+    @Modifying
+    @Query("DELETE FROM SalesRollupAppliedEvent a WHERE a.appliedAt < :before")
+    int deleteAppliedBefore(@Param("before") LocalDateTime before);
+}
@@ -2,6 +2,8 @@ package com.shoplite.repository;
 
 import com.shoplite.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,6 +19,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findByStatus(User.UserStatus status);
     List<User> findByUsernameContainingIgnoreCase(String username);
     List<User> findByEmailContainingIgnoreCase(String email);
+
+    // 사용자 이름만 조회 (존재 확인 겸용)
+    @Query("SELECT u.username FROM User u WHERE u.id = :userId")
+    Optional<String> findUsernameById(@Param("userId") Long userId);
 }
 
 
@@ -1,10 +1,14 @@
 package com.shoplite.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import com.shoplite.model.Wishlist;
 
 @Repository
@@ -25,8 +29,29 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
     // 사용자가 특정 상품을 찜했는지 확인
     boolean existsByUserIdAndProductId(Long userId, Long productId);
     
-    // 사용자별 위시리스트 삭제
-    void deleteByUserIdAndProductId(Long userId, Long productId);
+    // 사용자별 위시리스트 삭제 (단일 DELETE, 삭제된 행 수 반환)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Wishlist w WHERE w.user.id = :userId AND w.product.id = :productId")
+    int deleteByUserIdAndProductId(@Param("userId") Long userId, @Param("productId") Long productId);
+    
+    // 사용자와 상품이 있고 아직 찜하지 않았을 때만 추가 (단일 INSERT, 추가된 행 수 반환)
+    // 0 이면 이미 찜했거나 (동시 요청 포함) 사용자/상품이 없음. 개발 DB(SQLite)는 외래 키를 강제하지 않으므로 존재 여부도 함께 확인
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO wishlists (id, user_id, product_id, created_at) " +
+           "SELECT :id, :userId, :productId, :createdAt " +
+           "WHERE EXISTS (SELECT 1 FROM users WHERE id = :userId) " +
+           "AND EXISTS (SELECT 1 FROM products WHERE id = :productId) " +
+           "ON CONFLICT (user_id, product_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") Long id,
+                       @Param("userId") Long userId,
+                       @Param("productId") Long productId,
+                       @Param("createdAt") LocalDateTime createdAt);
+    
+    // 사용자가 찜한 상품 ID 목록
+    @Query("SELECT w.product.id FROM Wishlist w WHERE w.user.id = :userId")
+    List<Long> findProductIdsByUserId(@Param("userId") Long userId);
     
     // 인기 상품 (많이 찜한 상품) 조회
     @Query("SELECT w.product, COUNT(w) as wishCount FROM Wishlist w " +
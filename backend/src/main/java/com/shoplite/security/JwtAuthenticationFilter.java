@@ -20,6 +20,9 @@ import java.io.IOException;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // ?token= 으로 SSE 연결용 단기 토큰을 받는 경로 (EventSource 는 헤더를 보낼 수 없음)
+    private static final String STREAM_TOKEN_PATH = "/api/admin/dashboard/stream";
+
     @Autowired
     private JwtUtil jwtUtil;
 
@@ -49,11 +52,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         
         String jwt = getJwtFromRequest(request);
+        boolean fromQuery = false;
+        if (!StringUtils.hasText(jwt) && isStreamRequest(request)) {
+            jwt = request.getParameter("token");
+            fromQuery = true;
+        }
 
         if (StringUtils.hasText(jwt)) {
             try {
                 String username = jwtUtil.extractUsername(jwt);
 
+                // 쿼리 파라미터로는 SSE 연결용 토큰만, 헤더로는 일반 토큰만 허용
+                if (jwtUtil.isStreamToken(jwt) != fromQuery) {
+                    username = null;
+                }
+
                 if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                     UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
 
@@ -73,6 +86,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private boolean isStreamRequest(HttpServletRequest request) {
+        return "GET".equals(request.getMethod()) && STREAM_TOKEN_PATH.equals(request.getRequestURI());
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
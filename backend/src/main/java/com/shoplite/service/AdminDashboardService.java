@@ -0,0 +1,467 @@
+package com.shoplite.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shoplite.model.Order;
+import com.shoplite.model.OutboxEvent;
+import com.shoplite.model.Payment;
+import com.shoplite.repository.PaymentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 관리자 대시보드 실시간 지표
+// 도메인 이벤트로 오늘 지표를 메모리에서 갱신하고, 바뀐 내용이 있을 때만 주기적으로 한 번 직렬화해 모든 SSE 구독자에게 전송
+// DB 조회는 기동 시 오늘 지표를 채울 때 한 번뿐이라 구독자 수가 늘어도 DB 부하는 그대로
+// 소켓 쓰기는 공용 스케줄러 스레드가 아닌 전송 전용 스레드에서 구독자별 대기열 순서대로 처리하고,
+// 대기열이 가득 찬 (따라오지 못하는) 구독자는 연결을 끊음
+@Service
+public class AdminDashboardService implements DomainEventHandler {
+
+    // 새 구독자에게 보여줄 최근 활동 수
+    private static final int RECENT_ACTIVITY_SIZE = 20;
+
+    // 구독자가 없을 때 쌓아둘 전송 대기 활동 최대 수
+    private static final int MAX_PENDING_ACTIVITY = 200;
+
+    // 대시보드에 함께 보내는 재고 부족 상품 수
+    private static final int AT_RISK_PRODUCTS_SIZE = 10;
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${dashboard.max-clients:100}")
+    private int maxClients;
+
+    @Value("${dashboard.stream-timeout-ms:1800000}")
+    private long streamTimeoutMs;
+
+    @Value("${dashboard.sender-threads:2}")
+    private int senderThreads;
+
+    @Value("${dashboard.client-queue-size:16}")
+    private int clientQueueSize;
+
+    @Autowired
+    private LowStockWatcher lowStockWatcher;
+
+    private final CopyOnWriteArrayList<Client> clients = new CopyOnWriteArrayList<>();
+
+    private ExecutorService sender;
+
+    // 아래 지표는 lock 안에서만 읽고 씀
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private LocalDate day = LocalDate.now();
+    private long ordersPlaced;
+    private long ordersCancelled;
+    private long ordersDelivered;
+    private double revenue;
+    private long paymentsApproved;
+    private long paymentFailures;
+    private long lowStockAlerts;
+
+    // 변경 번호 (마지막 전송 이후 바뀐 것이 없으면 전송 생략)
+    private long version;
+    private long pushedVersion;
+
+    private final Deque<Map<String, Object>> recentActivity = new ArrayDeque<>();
+    private final List<Map<String, Object>> pendingActivity = new ArrayList<>();
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-sse-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    // 오늘 지표 초기화 (매출 집계 초기화 다음, 이벤트 전달 시작 전)
+    @EventListener(ApplicationReadyEvent.class)
+    @org.springframework.core.annotation.Order(1)
+    public void loadTodayMetrics() {
+        LocalDate today = LocalDate.now();
+        Map<String, Object> summary = salesRollupService.getSalesSummary(today, today);
+        long approved = paymentRepository.countByStatusAndCreatedAtGreaterThanEqual(Payment.PaymentStatus.APPROVED, today.atStartOfDay());
+        long failed = paymentRepository.countByStatusAndCreatedAtGreaterThanEqual(Payment.PaymentStatus.FAILED, today.atStartOfDay());
+
+        lock.lock();
+        try {
+            day = today;
+            ordersPlaced = (Long) summary.get("ordersPlaced");
+            ordersCancelled = (Long) summary.get("ordersCancelled");
+            ordersDelivered = (Long) summary.get("ordersDelivered");
+            revenue = (Double) summary.get("revenue");
+            paymentsApproved = approved;
+            paymentFailures = failed;
+            lowStockAlerts = 0;
+            version++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Set<OutboxEvent.EventType> getEventTypes() {
+        return EnumSet.of(OutboxEvent.EventType.ORDER_STATUS_CHANGED,
+                OutboxEvent.EventType.PAYMENT_APPROVED,
+                OutboxEvent.EventType.PAYMENT_FAILED);
+    }
+
+    // 메모리 지표라 묶음 중간에 실패하면 앞부분을 되돌릴 수 없음
+    @Override
+    public boolean isBatchRetryable() {
+        return false;
+    }
+
+    // 주문 / 결제 이벤트로 오늘 지표 갱신 (집계 기준일은 매출 집계와 같음)
+    @Override
+    public void handle(List<DomainEvent> events) {
+        lock.lock();
+        try {
+            rollOverIfNeeded();
+            for (DomainEvent event : events) {
+                switch (event.getType()) {
+                    case ORDER_STATUS_CHANGED -> applyOrderEvent(event);
+                    case PAYMENT_APPROVED -> {
+                        paymentsApproved++;
+                        addActivity("PAYMENT_APPROVED", Map.of(
+                                "orderId", event.getAggregateId(),
+                                "amount", event.getPayload().getOrDefault("amount", 0)));
+                    }
+                    case PAYMENT_FAILED -> {
+                        paymentFailures++;
+                        addActivity("PAYMENT_FAILED", Map.of(
+                                "orderId", event.getAggregateId(),
+                                "reason", String.valueOf(event.getPayload().get("failureReason"))));
+                    }
+                    default -> {
+                    }
+                }
+            }
+            version++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 재고 부족 목록이 바뀌면 LowStockWatcher 가 호출 (새로 기준 이하가 된 상품이 있으면 알림)
+    public void lowStockChanged(LowStockWatcher.StockLevel newlyAtRisk) {
+        lock.lock();
+        try {
+            rollOverIfNeeded();
+            if (newlyAtRisk != null) {
+                lowStockAlerts++;
+                Map<String, Object> detail = new LinkedHashMap<>();
+                detail.put("productId", newlyAtRisk.getProductId());
+                detail.put("productName", newlyAtRisk.getProductName());
+                detail.put("stockQuantity", newlyAtRisk.getStockQuantity());
+                detail.put("threshold", newlyAtRisk.getThreshold());
+                detail.put("outOfStock", newlyAtRisk.isOutOfStock());
+                addActivity("LOW_STOCK", detail);
+            }
+            version++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 현재 지표 (SSE 를 쓰지 않는 클라이언트용)
+    public Map<String, Object> getMetrics() {
+        lock.lock();
+        try {
+            rollOverIfNeeded();
+            Map<String, Object> snapshot = metricsSnapshot();
+            snapshot.put("activity", new ArrayList<>(recentActivity));
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 대시보드 스트림 구독 (연결 직후 현재 지표 + 최근 활동을 snapshot 이벤트로 전송)
+    // 연결 수 확인, snapshot 생성, 구독자 등록을 lock 안에서 함께 처리해 그사이 전송되는 metrics 를 놓치지 않음
+    // 컨트롤러가 emitter 를 반환하기 전의 send 는 emitter 안에 쌓였다가 연결이 준비되면 순서대로 전송되므로 lock 안에서 I/O 를 기다리지 않음
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        Client client = new Client(emitter);
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(() -> clients.remove(client));
+        emitter.onError(e -> clients.remove(client));
+
+        lock.lock();
+        try {
+            if (clients.size() >= maxClients) {
+                throw new RuntimeException("대시보드 연결 수가 너무 많습니다.");
+            }
+            rollOverIfNeeded();
+
+            // 아직 전송하지 않은 활동은 다음 metrics 이벤트로 받으므로 snapshot 에서 제외
+            Set<Map<String, Object>> pending = Collections.newSetFromMap(new IdentityHashMap<>());
+            pending.addAll(pendingActivity);
+            List<Map<String, Object>> activity = new ArrayList<>();
+            for (Map<String, Object> item : recentActivity) {
+                if (!pending.contains(item)) {
+                    activity.add(item);
+                }
+            }
+            Map<String, Object> snapshot = metricsSnapshot();
+            snapshot.put("activity", activity);
+
+            emitter.send(SseEmitter.event()
+                    .name("snapshot")
+                    .data(objectMapper.writeValueAsString(snapshot)));
+            clients.add(client);
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        } finally {
+            lock.unlock();
+        }
+        return emitter;
+    }
+
+    // 바뀐 지표와 그 사이 활동을 metrics 이벤트로 전송
+    @Scheduled(fixedDelayString = "${dashboard.push-interval-ms:1000}")
+    public void pushUpdates() {
+        Map<String, Object> message;
+        List<Client> targets;
+        lock.lock();
+        try {
+            rollOverIfNeeded();
+            if (version == pushedVersion) {
+                return;
+            }
+            pushedVersion = version;
+            message = metricsSnapshot();
+            message.put("activity", new ArrayList<>(pendingActivity));
+            pendingActivity.clear();
+            // 이 메시지보다 뒤의 snapshot 을 받은 구독자에게는 보내지 않음
+            targets = new ArrayList<>(clients);
+        } finally {
+            lock.unlock();
+        }
+
+        if (!targets.isEmpty()) {
+            broadcast(targets, "metrics", message);
+        }
+    }
+
+    // 프록시 / 브라우저가 유휴 연결을 끊지 않도록 주기적으로 주석 전송 (끊긴 / 멈춘 구독자 정리 겸용)
+    @Scheduled(fixedRate = 15_000L)
+    public void heartbeat() {
+        if (clients.isEmpty()) {
+            return;
+        }
+        send(clients, SseEmitter.event().comment("ping").build());
+    }
+
+    private void applyOrderEvent(DomainEvent event) {
+        String fromStatus = event.getString("fromStatus");
+        Order.OrderStatus from = fromStatus != null ? Order.OrderStatus.valueOf(fromStatus) : null;
+        Order.OrderStatus to = Order.OrderStatus.valueOf(event.getString("status"));
+        boolean placedToday = day.toString().equals(event.getString("placedDate"));
+
+        if (from == null && placedToday) {
+            ordersPlaced++;
+            Map<String, Object> detail = new LinkedHashMap<>();
+            detail.put("orderId", event.getAggregateId());
+            detail.put("orderNumber", event.getString("orderNumber"));
+            detail.put("totalAmount", event.getDouble("totalAmount"));
+            addActivity("ORDER_PLACED", detail);
+        }
+
+        int cancelDelta = (to == Order.OrderStatus.CANCELLED ? 1 : 0) - (from == Order.OrderStatus.CANCELLED ? 1 : 0);
+        if (cancelDelta != 0 && placedToday) {
+            ordersCancelled += cancelDelta;
+        }
+
+        int sign = (to == Order.OrderStatus.DELIVERED ? 1 : 0) - (from == Order.OrderStatus.DELIVERED ? 1 : 0);
+        String deliveredDate = event.getString("deliveredDate") != null ? event.getString("deliveredDate") : event.getString("placedDate");
+        if (sign != 0 && day.toString().equals(deliveredDate)) {
+            Double totalAmount = event.getDouble("totalAmount");
+            ordersDelivered += sign;
+            revenue += sign * (totalAmount != null ? totalAmount : 0.0);
+        }
+    }
+
+    // 날짜가 바뀌면 오늘 지표 초기화 (lock 안에서 호출)
+    private void rollOverIfNeeded() {
+        LocalDate today = LocalDate.now();
+        if (today.equals(day)) {
+            return;
+        }
+        day = today;
+        ordersPlaced = 0;
+        ordersCancelled = 0;
+        ordersDelivered = 0;
+        revenue = 0.0;
+        paymentsApproved = 0;
+        paymentFailures = 0;
+        lowStockAlerts = 0;
+        version++;
+    }
+
+    // lock 안에서 호출
+    private void addActivity(String type, Map<String, Object> detail) {
+        Map<String, Object> activity = new LinkedHashMap<>();
+        activity.put("type", type);
+        activity.put("at", LocalDateTime.now().toString());
+        activity.putAll(detail);
+
+        recentActivity.addFirst(activity);
+        if (recentActivity.size() > RECENT_ACTIVITY_SIZE) {
+            recentActivity.removeLast();
+        }
+        if (pendingActivity.size() < MAX_PENDING_ACTIVITY) {
+            pendingActivity.add(activity);
+        }
+    }
+
+    // lock 안에서 호출
+    private Map<String, Object> metricsSnapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("date", day.toString());
+        snapshot.put("ordersPlaced", ordersPlaced);
+        snapshot.put("ordersCancelled", ordersCancelled);
+        snapshot.put("ordersDelivered", ordersDelivered);
+        snapshot.put("revenue", revenue);
+        snapshot.put("paymentsApproved", paymentsApproved);
+        snapshot.put("paymentFailures", paymentFailures);
+        snapshot.put("lowStockAlerts", lowStockAlerts);
+        snapshot.put("atRiskCount", lowStockWatcher.getAtRiskCount());
+        snapshot.put("atRiskProducts", lowStockWatcher.getAtRiskProducts(AT_RISK_PRODUCTS_SIZE));
+        return snapshot;
+    }
+
+    // 메시지는 한 번만 직렬화해 모든 구독자에게 같은 내용을 전송
+    private void broadcast(List<Client> targets, String name, Map<String, Object> message) {
+        try {
+            send(targets, SseEmitter.event().name(name).data(objectMapper.writeValueAsString(message)).build());
+        } catch (IOException e) {
+            System.err.println("대시보드 메시지 직렬화 실패: " + e.getMessage());
+        }
+    }
+
+    // 구독자별 대기열에 넣기만 하고 바로 반환 (실제 전송은 sender 스레드)
+    private void send(List<Client> targets, Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        for (Client client : targets) {
+            if (!client.offer(event, clientQueueSize)) {
+                // 연결 종료도 소켓 작업이므로 sender 스레드에서 처리
+                System.err.println("대시보드 구독자가 전송을 따라오지 못해 연결을 끊습니다.");
+                clients.remove(client);
+                client.close();
+            }
+            if (client.startDraining()) {
+                sender.execute(() -> drain(client));
+            }
+        }
+    }
+
+    // 한 구독자의 대기열을 순서대로 전송 (구독자마다 동시에 하나의 sender 스레드만 사용)
+    private void drain(Client client) {
+        Set<ResponseBodyEmitter.DataWithMediaType> event;
+        while ((event = client.next()) != null) {
+            try {
+                client.emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                // 끊긴 연결 (컨테이너가 onError / onCompletion 으로 마무리)
+                clients.remove(client);
+                client.close();
+                return;
+            }
+        }
+        if (client.isClosed()) {
+            client.emitter.complete();
+        }
+    }
+
+    // SSE 구독자와 전송 대기열 (아래 상태는 이 객체 잠금 안에서만 접근)
+    private static class Client {
+        private final SseEmitter emitter;
+        private final Deque<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+
+        Client(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        // 대기열이 가득 차면 false (종료된 구독자는 버리고 true)
+        synchronized boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> event, int capacity) {
+            if (closed) {
+                return true;
+            }
+            if (queue.size() >= capacity) {
+                return false;
+            }
+            queue.addLast(event);
+            return true;
+        }
+
+        // 전송 중인 스레드가 없으면 전송 (또는 연결 종료) 을 맡음
+        synchronized boolean startDraining() {
+            if (draining || (queue.isEmpty() && !closed)) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+
+        // 다음 전송할 이벤트 (비었으면 전송 종료)
+        synchronized Set<ResponseBodyEmitter.DataWithMediaType> next() {
+            Set<ResponseBodyEmitter.DataWithMediaType> event = queue.pollFirst();
+            if (event == null) {
+                draining = false;
+            }
+            return event;
+        }
+
+        // 남은 이벤트는 버리고, 전송 중인 스레드가 마치면 연결 종료
+        synchronized void close() {
+            closed = true;
+            queue.clear();
+        }
+
+        synchronized boolean isClosed() {
+            return closed;
+        }
+    }
+}
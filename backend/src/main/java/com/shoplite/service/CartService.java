@@ -1,20 +1,24 @@
 package com.shoplite.service;
 
+import com.shoplite.dto.CartItemDTO;
+import com.shoplite.dto.CartSummaryDTO;
 import com.shoplite.model.CartItem;
 import com.shoplite.model.Product;
 import com.shoplite.model.User;
-import com.shoplite.repository.CartItemRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 public class CartService {
 
     @Autowired
-    private CartItemRepository cartItemRepository;
+    private CartStore cartStore;
 
     @Autowired
     private UserService userService;
@@ -22,13 +26,27 @@ public class CartService {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private ProductPopularityService productPopularityService;
+
     public List<CartItem> getCartItems(Long userId) {
         User user = userService.getUserById(userId);
-        return cartItemRepository.findByUser(user);
+        List<CartStore.CartLine> lines = cartStore.getLines(userId);
+
+        Map<Long, Product> productsById = productService.getProductsByIds(
+                lines.stream().map(CartStore.CartLine::getProductId).collect(Collectors.toList()));
+
+        List<CartItem> cartItems = new ArrayList<>();
+        for (CartStore.CartLine line : lines) {
+            Product product = productsById.get(line.getProductId());
+            if (product != null) {
+                cartItems.add(toCartItem(user, product, line));
+            }
+        }
+        return cartItems;
     }
 
     public CartItem addToCart(Long userId, Long productId, Integer quantity) {
-        User user = userService.getUserById(userId);
         Product product = productService.getProductById(productId);
 
         // 재고 확인
@@ -36,79 +54,118 @@ public class CartService {
             throw new RuntimeException("재고가 부족합니다. 현재 재고: " + product.getStockQuantity());
         }
 
-        // 이미 장바구니에 있는 상품인지 확인
-        Optional<CartItem> existingItem = cartItemRepository.findByUserAndProduct(user, product);
-        
-        if (existingItem.isPresent()) {
-            // 기존 항목의 수량 업데이트
-            CartItem cartItem = existingItem.get();
-            int newQuantity = cartItem.getQuantity() + quantity;
-            
-            if (product.getStockQuantity() < newQuantity) {
-                throw new RuntimeException("재고가 부족합니다. 현재 재고: " + product.getStockQuantity());
+        // 이미 장바구니에 있는 상품이면 수량 증가, 없으면 새 항목 추가
+        CartStore.CartLine line = cartStore.add(userId, productId, quantity, product.getStockQuantity());
+        productPopularityService.recordCartAdd(productId, quantity); // 인기 상품 집계
+        return toCartItem(userReference(userId), product, line);
+    }
+
+    // 비회원 장바구니 병합 (상품 조회 1회, 재고 확인 1회, 새 항목 일괄 저장)
+    public CartSummaryDTO mergeCart(Long userId, Map<Long, Integer> quantities) {
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            if (entry.getKey() == null) {
+                throw new RuntimeException("상품 ID는 필수입니다.");
+            }
+            if (entry.getValue() == null || entry.getValue() <= 0) {
+                throw new RuntimeException("수량은 양수여야 합니다. 상품 ID: " + entry.getKey());
             }
-            
-            cartItem.setQuantity(newQuantity);
-            return cartItemRepository.save(cartItem);
-        } else {
-            // 새 항목 추가
-            CartItem cartItem = new CartItem(user, product, quantity);
-            return cartItemRepository.save(cartItem);
         }
-    }
 
-    public CartItem updateCartItem(Long cartItemId, Integer quantity) {
-        Optional<CartItem> cartItemOpt = cartItemRepository.findById(cartItemId);
-        if (cartItemOpt.isEmpty()) {
-            throw new RuntimeException("장바구니 항목을 찾을 수 없습니다. ID: " + cartItemId);
+        Map<Long, Product> productsById = productService.getProductsByIds(quantities.keySet());
+        Map<Long, Integer> stockQuantities = new HashMap<>();
+        for (Long productId : quantities.keySet()) {
+            Product product = productsById.get(productId);
+            if (product == null) {
+                throw new RuntimeException("상품을 찾을 수 없습니다. ID: " + productId);
+            }
+            stockQuantities.put(productId, product.getStockQuantity());
         }
 
-        CartItem cartItem = cartItemOpt.get();
-        Product product = cartItem.getProduct();
+        List<CartStore.CartLine> lines = cartStore.merge(userId, quantities, stockQuantities);
+        quantities.forEach(productPopularityService::recordCartAdd); // 인기 상품 집계
+
+        // 기존 장바구니에만 있던 상품 정보 조회
+        Map<Long, Product> cartProducts = new HashMap<>(productsById);
+        cartProducts.putAll(productService.getProductsByIds(lines.stream()
+                .map(CartStore.CartLine::getProductId)
+                .filter(productId -> !productsById.containsKey(productId))
+                .collect(Collectors.toList())));
+        return toSummary(userId, lines, cartProducts);
+    }
+
+    public CartItem updateCartItem(Long cartItemId, Integer quantity) {
+        CartStore.CartLine line = cartStore.getLine(cartItemId);
+        Product product = productService.getProductById(line.getProductId());
 
         // 재고 확인
         if (product.getStockQuantity() < quantity) {
             throw new RuntimeException("재고가 부족합니다. 현재 재고: " + product.getStockQuantity());
         }
 
-        cartItem.setQuantity(quantity);
-        return cartItemRepository.save(cartItem);
+        CartStore.CartLine updatedLine = cartStore.updateQuantity(cartItemId, quantity);
+        return toCartItem(userReference(line.getUserId()), product, updatedLine);
     }
 
     public void removeFromCart(Long cartItemId) {
-        Optional<CartItem> cartItemOpt = cartItemRepository.findById(cartItemId);
-        if (cartItemOpt.isEmpty()) {
-            throw new RuntimeException("장바구니 항목을 찾을 수 없습니다. ID: " + cartItemId);
-        }
-
-        cartItemRepository.delete(cartItemOpt.get());
+        cartStore.remove(cartItemId);
     }
 
     public void clearCart(Long userId) {
-        User user = userService.getUserById(userId);
-        cartItemRepository.deleteByUser(user);
+        cartStore.clear(userId);
     }
 
     public Long getCartItemCount(Long userId) {
-        User user = userService.getUserById(userId);
-        return cartItemRepository.countByUser(user);
+        return (long) cartStore.getLines(userId).size();
     }
 
     public Double getCartTotal(Long userId) {
-        List<CartItem> cartItems = getCartItems(userId);
-        return cartItems.stream()
-                .mapToDouble(item -> item.getProduct().getPrice() * item.getQuantity())
-                .sum();
+        return getCartSummary(userId).getTotalPrice();
     }
 
-    public void removeFromCartByUserAndProduct(Long userId, Long productId) {
-        User user = userService.getUserById(userId);
-        Product product = productService.getProductById(productId);
-        cartItemRepository.deleteByUserAndProduct(user, product);
+    // 장바구니 요약 (항목, 개수, 총 금액)
+    // 항목은 메모리 장바구니에서 읽고, 상품 정보는 한 번의 IN 조회로 가져옴
+    public CartSummaryDTO getCartSummary(Long userId) {
+        List<CartStore.CartLine> lines = cartStore.getLines(userId);
+        Map<Long, Product> productsById = productService.getProductsByIds(
+                lines.stream().map(CartStore.CartLine::getProductId).collect(Collectors.toList()));
+        return toSummary(userId, lines, productsById);
     }
-}
-
 
+    public void removeFromCartByUserAndProduct(Long userId, Long productId) {
+        cartStore.removeProduct(userId, productId);
+    }
 
+    private CartSummaryDTO toSummary(Long userId, List<CartStore.CartLine> lines, Map<Long, Product> productsById) {
+        User user = userReference(userId);
+        List<CartItemDTO> items = new ArrayList<>();
+        int totalQuantity = 0;
+        double totalPrice = 0.0;
+        for (CartStore.CartLine line : lines) {
+            Product product = productsById.get(line.getProductId());
+            if (product == null) {
+                continue;
+            }
+            items.add(new CartItemDTO(toCartItem(user, product, line)));
+            totalQuantity += line.getQuantity();
+            totalPrice += product.getPrice() * line.getQuantity();
+        }
+        return new CartSummaryDTO(items, (long) items.size(), totalQuantity, totalPrice);
+    }
 
+    // 응답에 사용자 ID/이름만 담기 위한 참조 (이름은 장바구니를 올릴 때 조회한 값, 사용자 엔티티를 조회하지 않음)
+    private User userReference(Long userId) {
+        User user = new User();
+        user.setId(userId);
+        user.setUsername(cartStore.getUsername(userId));
+        return user;
+    }
 
+    // 메모리 장바구니 항목을 응답용 CartItem 으로 변환 (저장하지 않음)
+    private CartItem toCartItem(User user, Product product, CartStore.CartLine line) {
+        CartItem cartItem = new CartItem(user, product, line.getQuantity());
+        cartItem.setId(line.getId());
+        cartItem.setCreatedAt(line.getCreatedAt());
+        cartItem.setUpdatedAt(line.getUpdatedAt());
+        return cartItem;
+    }
+}
@@ -0,0 +1,678 @@
+package com.shoplite.service;
+
+import com.shoplite.model.CartItem;
+import com.shoplite.repository.CartItemRepository;
+import com.shoplite.repository.ProductRepository;
+import com.shoplite.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 장바구니 메모리 저장소 (write-behind)
+// 사용자별 장바구니를 메모리에 두고 사용자 단위로 잠가서 변경한다.
+// 새 항목은 장바구니 항목 ID 가 필요하므로 바로 INSERT 하고, 수량 변경/삭제는 로컬 로그에 남긴 뒤
+// 주기적으로 사용자별로 모아서 cart_items 에 반영한다. 비정상 종료 시 기동할 때 로그를 다시 적용한다.
+@Component
+public class CartStore {
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${cart.write-behind.log-path:./data/cart-write-behind.log}")
+    private String logPath;
+
+    @Value("${cart.write-behind.idle-eviction-minutes:30}")
+    private long idleEvictionMinutes;
+
+    @Value("${cart.write-behind.max-attempts:5}")
+    private int maxAttempts;
+
+    // 사용자 ID -> 장바구니
+    private final ConcurrentHashMap<Long, UserCart> carts = new ConcurrentHashMap<>();
+
+    // 장바구니 항목 ID -> 사용자 ID (메모리에 올라온 장바구니만)
+    private final ConcurrentHashMap<Long, Long> itemOwners = new ConcurrentHashMap<>();
+
+    // 반영 대기 중인 변경이 있는 사용자
+    private final Set<Long> dirtyUsers = ConcurrentHashMap.newKeySet();
+
+    // 이전 주기에 반영하지 못한 변경 (항목 ID 기준)
+    private final ConcurrentHashMap<Long, Integer> retryUpdates = new ConcurrentHashMap<>();
+    private final Set<Long> retryDeletes = ConcurrentHashMap.newKeySet();
+
+    // 항목별 반영 실패 횟수 (DB 연결 문제처럼 항목과 무관한 실패는 세지 않음)
+    private final ConcurrentHashMap<Long, Integer> failedAttempts = new ConcurrentHashMap<>();
+
+    // 파일 I/O 와 DB 작업을 잡고 기다리므로 synchronized 대신 ReentrantLock 사용 (가상 스레드 고정 방지)
+    private final ReentrantLock logLock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private BufferedWriter logWriter;
+
+    @PostConstruct
+    public void init() {
+        try {
+            Path path = Paths.get(logPath);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            recover(flushingLogPath());
+            recover(path);
+            logWriter = openLog(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("장바구니 로그를 열 수 없습니다: " + logPath, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        flush();
+        logLock.lock();
+        try {
+            logWriter.close();
+        } finally {
+            logLock.unlock();
+        }
+    }
+
+    // 장바구니 조회 (항목 스냅샷)
+    public List<CartLine> getLines(Long userId) {
+        UserCart cart = load(userId);
+        cart.lock.lock();
+        try {
+            return cart.snapshot();
+        } finally {
+            cart.lock.unlock();
+        }
+    }
+
+    // 사용자 이름 (장바구니를 올릴 때 함께 조회한 값)
+    public String getUsername(Long userId) {
+        return load(userId).username;
+    }
+
+    // 상품 추가 (이미 있으면 수량 증가). stockQuantity 는 호출 시점의 재고
+    public CartLine add(Long userId, Long productId, int quantity, int stockQuantity) {
+        UserCart cart = load(userId);
+        cart.lock.lock();
+        try {
+            CartLine line = cart.lines.get(productId);
+            if (line != null) {
+                int newQuantity = line.quantity + quantity;
+                if (stockQuantity < newQuantity) {
+                    throw new RuntimeException("재고가 부족합니다. 현재 재고: " + stockQuantity);
+                }
+                setQuantity(cart, line, newQuantity);
+                return line.copy();
+            }
+
+            // 새 항목은 ID 발급을 위해 바로 저장 (사용자는 load 에서 확인, 상품은 호출 측에서 조회했으므로 참조만 사용)
+            CartItem saved = cartItemRepository.save(new CartItem(
+                    userRepository.getReferenceById(userId),
+                    productRepository.getReferenceById(productId),
+                    quantity));
+            line = new CartLine(saved.getId(), userId, productId, quantity, saved.getCreatedAt(), saved.getUpdatedAt());
+            cart.lines.put(productId, line);
+            itemOwners.put(line.id, userId);
+            return line.copy();
+        } finally {
+            cart.lock.unlock();
+        }
+    }
+
+    // 여러 상품을 한 번에 추가 (비회원 장바구니 병합). 모든 재고를 먼저 확인한 뒤 반영
+    // quantities: 상품 ID -> 추가 수량, stockQuantities: 상품 ID -> 현재 재고
+    public List<CartLine> merge(Long userId, Map<Long, Integer> quantities, Map<Long, Integer> stockQuantities) {
+        UserCart cart = load(userId);
+        cart.lock.lock();
+        try {
+            for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+                CartLine line = cart.lines.get(entry.getKey());
+                int newQuantity = entry.getValue() + (line != null ? line.quantity : 0);
+                int stockQuantity = stockQuantities.get(entry.getKey());
+                if (stockQuantity < newQuantity) {
+                    throw new RuntimeException("재고가 부족합니다. 상품 ID: " + entry.getKey() + ", 현재 재고: " + stockQuantity);
+                }
+            }
+
+            // 기존 항목은 수량만 변경하고, 새 항목은 한 번에 저장
+            List<CartItem> newItems = new ArrayList<>();
+            for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+                CartLine line = cart.lines.get(entry.getKey());
+                if (line != null) {
+                    setQuantity(cart, line, line.quantity + entry.getValue());
+                } else {
+                    newItems.add(new CartItem(
+                            userRepository.getReferenceById(userId),
+                            productRepository.getReferenceById(entry.getKey()),
+                            entry.getValue()));
+                }
+            }
+
+            if (!newItems.isEmpty()) {
+                List<CartItem> saved = transactionTemplate.execute(status -> cartItemRepository.saveAll(newItems));
+                for (CartItem item : saved) {
+                    Long productId = item.getProduct().getId();
+                    CartLine line = new CartLine(item.getId(), userId, productId, item.getQuantity(),
+                            item.getCreatedAt(), item.getUpdatedAt());
+                    cart.lines.put(productId, line);
+                    itemOwners.put(line.id, userId);
+                }
+            }
+            return cart.snapshot();
+        } finally {
+            cart.lock.unlock();
+        }
+    }
+
+    // 장바구니 항목 단건 조회
+    public CartLine getLine(Long cartItemId) {
+        UserCart cart = load(findOwner(cartItemId));
+        cart.lock.lock();
+        try {
+            return cart.findById(cartItemId).copy();
+        } finally {
+            cart.lock.unlock();
+        }
+    }
+
+    // 장바구니 항목 수량 변경
+    public CartLine updateQuantity(Long cartItemId, int quantity) {
+        UserCart cart = load(findOwner(cartItemId));
+        cart.lock.lock();
+        try {
+            CartLine line = cart.findById(cartItemId);
+            setQuantity(cart, line, quantity);
+            return line.copy();
+        } finally {
+            cart.lock.unlock();
+        }
+    }
+
+    // 장바구니 항목 삭제
+    public void remove(Long cartItemId) {
+        UserCart cart = load(findOwner(cartItemId));
+        cart.lock.lock();
+        try {
+            removeLine(cart, cart.findById(cartItemId));
+        } finally {
+            cart.lock.unlock();
+        }
+    }
+
+    // 사용자의 특정 상품 삭제
+    public void removeProduct(Long userId, Long productId) {
+        UserCart cart = load(userId);
+        cart.lock.lock();
+        try {
+            CartLine line = cart.lines.get(productId);
+            if (line != null) {
+                removeLine(cart, line);
+            }
+        } finally {
+            cart.lock.unlock();
+        }
+    }
+
+    // 장바구니 비우기 (사용자 단위 DELETE 한 번으로 즉시 반영)
+    // 새 항목은 바로 INSERT 되므로, 나중에 사용자 단위로 지우면 그 사이 추가된 항목까지 지워질 수 있음
+    public void clear(Long userId) {
+        UserCart cart = load(userId);
+        cart.lock.lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> cartItemRepository.deleteAllByUserId(userId));
+            for (CartLine line : cart.lines.values()) {
+                itemOwners.remove(line.id, userId);
+            }
+            cart.lines.clear();
+            cart.dirtyItemIds.clear();
+            cart.deletedItemIds.clear();
+        } finally {
+            cart.lock.unlock();
+        }
+    }
+
+    // 대기 중인 변경을 사용자별로 모아 DB에 반영
+    @Scheduled(fixedDelayString = "${cart.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        if (dirtyUsers.isEmpty() && retryUpdates.isEmpty() && retryDeletes.isEmpty()) {
+            return;
+        }
+
+        // 지금까지의 로그를 반영 대상으로 돌리고 새 로그로 전환
+        Path flushingLog = flushingLogPath();
+        rotateLog(flushingLog);
+
+        // 재시도 대상을 먼저 담고, 메모리의 최신 값이 있으면 덮어씀
+        Map<Long, Integer> updates = new HashMap<>();
+        Set<Long> deletes = new HashSet<>();
+        drainRetries(updates, deletes);
+        for (Long userId : new ArrayList<>(dirtyUsers)) {
+            UserCart cart = carts.get(userId);
+            dirtyUsers.remove(userId);
+            if (cart == null) {
+                continue;
+            }
+            cart.lock.lock();
+            try {
+                for (Long itemId : cart.dirtyItemIds) {
+                    CartLine line = cart.findByIdOrNull(itemId);
+                    if (line != null) {
+                        updates.put(itemId, line.quantity);
+                    }
+                }
+                deletes.addAll(cart.deletedItemIds);
+                updates.keySet().removeAll(cart.deletedItemIds);
+                cart.dirtyItemIds.clear();
+                cart.deletedItemIds.clear();
+            } finally {
+                cart.lock.unlock();
+            }
+        }
+
+        try {
+            applyToDatabase(updates, deletes);
+            clearFailedAttempts(updates.keySet(), deletes);
+        } catch (RuntimeException e) {
+            System.err.println("장바구니 변경 반영 중 오류: " + e.getMessage());
+            if (isTransient(e)) {
+                // DB 연결 문제 등은 특정 항목 탓이 아니므로 전부 다음 주기에 재시도
+                requeue(updates, deletes);
+            } else {
+                // 한 항목 때문에 전체가 계속 실패하지 않도록 항목별로 다시 반영하고 실패한 항목만 남김
+                applyEach(updates, deletes);
+            }
+        }
+        deleteQuietly(flushingLog);
+    }
+
+    // 오래 사용하지 않은 (반영할 변경이 없는) 장바구니를 메모리에서 내림
+    @Scheduled(fixedDelay = 60_000L)
+    public void evictIdleCarts() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(idleEvictionMinutes);
+        carts.forEach((userId, cart) -> {
+            if (!retryUpdates.isEmpty() || !retryDeletes.isEmpty() || !cart.lock.tryLock()) {
+                return;
+            }
+            try {
+                if (cart.lastAccess.isBefore(threshold)
+                        && cart.dirtyItemIds.isEmpty() && cart.deletedItemIds.isEmpty()
+                        && carts.remove(userId, cart)) {
+                    cart.evicted = true;
+                    for (CartLine line : cart.lines.values()) {
+                        itemOwners.remove(line.id, userId);
+                    }
+                }
+            } finally {
+                cart.lock.unlock();
+            }
+        });
+    }
+
+    private void drainRetries(Map<Long, Integer> updates, Set<Long> deletes) {
+        for (Long itemId : new ArrayList<>(retryUpdates.keySet())) {
+            Integer quantity = retryUpdates.remove(itemId);
+            if (quantity != null) {
+                updates.put(itemId, quantity);
+            }
+        }
+        for (Long itemId : new ArrayList<>(retryDeletes)) {
+            retryDeletes.remove(itemId);
+            deletes.add(itemId);
+            updates.remove(itemId);
+        }
+    }
+
+    private void setQuantity(UserCart cart, CartLine line, int quantity) {
+        line.quantity = quantity;
+        line.updatedAt = LocalDateTime.now();
+        cart.dirtyItemIds.add(line.id);
+        appendLog("U|" + line.id + "|" + quantity);
+        dirtyUsers.add(cart.userId);
+    }
+
+    private void removeLine(UserCart cart, CartLine line) {
+        cart.lines.remove(line.productId);
+        cart.dirtyItemIds.remove(line.id);
+        cart.deletedItemIds.add(line.id);
+        itemOwners.remove(line.id, cart.userId);
+        appendLog("D|" + line.id);
+        dirtyUsers.add(cart.userId);
+    }
+
+    // 장바구니를 메모리에 올림 (없으면 DB에서 로드). 내려간 장바구니를 잡은 경우 다시 로드
+    // DB 조회는 맵 밖에서 하고 (computeIfAbsent 안에서 하면 같은 버킷의 다른 사용자까지 막힘)
+    // 동시에 로드한 경우 먼저 넣은 장바구니를 사용
+    private UserCart load(Long userId) {
+        while (true) {
+            UserCart cart = carts.get(userId);
+            if (cart == null) {
+                UserCart loaded = loadFromDatabase(userId);
+                cart = carts.putIfAbsent(userId, loaded);
+                if (cart == null) {
+                    cart = loaded;
+                    registerOwners(loaded);
+                }
+            }
+            cart.lock.lock();
+            try {
+                if (!cart.evicted) {
+                    cart.lastAccess = LocalDateTime.now();
+                    return cart;
+                }
+            } finally {
+                cart.lock.unlock();
+            }
+        }
+    }
+
+    // 개발 DB(SQLite)는 외래 키를 강제하지 않으므로 사용자 존재 여부는 여기서 확인
+    // 장바구니가 메모리에 있는 동안에는 다시 조회하지 않음
+    private UserCart loadFromDatabase(Long userId) {
+        String username = userRepository.findUsernameById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다. ID: " + userId));
+        UserCart cart = new UserCart(userId, username);
+        for (CartItem item : cartItemRepository.findByUserId(userId)) {
+            CartLine line = new CartLine(item.getId(), userId, item.getProduct().getId(), item.getQuantity(),
+                    item.getCreatedAt(), item.getUpdatedAt());
+            cart.lines.put(line.productId, line);
+        }
+        return cart;
+    }
+
+    // 맵에 올라간 장바구니의 항목 소유자 등록 (버려진 동시 로드 결과는 등록하지 않음)
+    private void registerOwners(UserCart cart) {
+        cart.lock.lock();
+        try {
+            if (cart.evicted) {
+                return;
+            }
+            for (CartLine line : cart.lines.values()) {
+                itemOwners.put(line.id, cart.userId);
+            }
+        } finally {
+            cart.lock.unlock();
+        }
+    }
+
+    private Long findOwner(Long cartItemId) {
+        Long userId = itemOwners.get(cartItemId);
+        if (userId != null) {
+            return userId;
+        }
+        return cartItemRepository.findUserIdById(cartItemId)
+                .orElseThrow(() -> new RuntimeException("장바구니 항목을 찾을 수 없습니다. ID: " + cartItemId));
+    }
+
+    private void applyToDatabase(Map<Long, Integer> updates, Set<Long> deletes) {
+        if (updates.isEmpty() && deletes.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!deletes.isEmpty()) {
+                cartItemRepository.deleteAllByIdInBatch(deletes);
+            }
+            updates.forEach((itemId, quantity) -> cartItemRepository.updateQuantity(itemId, quantity, now));
+        });
+    }
+
+    // 항목마다 별도 트랜잭션으로 반영. 실패한 항목은 maxAttempts 번까지 다음 주기에 다시 시도하고, 그 뒤에는 버림
+    private void applyEach(Map<Long, Integer> updates, Set<Long> deletes) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Long itemId : deletes) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> cartItemRepository.deleteAllByIdInBatch(List.of(itemId)));
+                failedAttempts.remove(itemId);
+            } catch (RuntimeException e) {
+                if (shouldRetry(itemId, "삭제", e)) {
+                    requeueDelete(itemId);
+                }
+            }
+        }
+        updates.forEach((itemId, quantity) -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> cartItemRepository.updateQuantity(itemId, quantity, now));
+                failedAttempts.remove(itemId);
+            } catch (RuntimeException e) {
+                if (shouldRetry(itemId, "수량 " + quantity, e)) {
+                    requeueUpdate(itemId, quantity);
+                }
+            }
+        });
+    }
+
+    private boolean shouldRetry(Long itemId, String change, RuntimeException e) {
+        if (isTransient(e)) {
+            return true;
+        }
+        int attempts = failedAttempts.merge(itemId, 1, Integer::sum);
+        if (attempts < maxAttempts) {
+            return true;
+        }
+        failedAttempts.remove(itemId);
+        System.err.println("장바구니 변경 반영을 " + attempts + "회 실패하여 버립니다. 항목 ID: " + itemId
+                + ", 변경: " + change + ", 오류: " + e.getMessage());
+        return false;
+    }
+
+    private boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private void clearFailedAttempts(Set<Long> updatedIds, Set<Long> deletedIds) {
+        if (!failedAttempts.isEmpty()) {
+            failedAttempts.keySet().removeAll(updatedIds);
+            failedAttempts.keySet().removeAll(deletedIds);
+        }
+    }
+
+    // 반영에 실패한 변경은 다음 주기에 다시 시도하고, 그 전에 종료되더라도 복구되도록 로그에 다시 기록
+    private void requeue(Map<Long, Integer> updates, Set<Long> deletes) {
+        updates.forEach(this::requeueUpdate);
+        deletes.forEach(this::requeueDelete);
+    }
+
+    private void requeueUpdate(Long itemId, int quantity) {
+        retryUpdates.putIfAbsent(itemId, quantity);
+        appendLog("U|" + itemId + "|" + quantity);
+    }
+
+    private void requeueDelete(Long itemId) {
+        retryDeletes.add(itemId);
+        appendLog("D|" + itemId);
+    }
+
+    // 로그 파일의 변경을 DB에 다시 적용 (같은 항목은 마지막 기록만 적용)
+    private void recover(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        Map<Long, Integer> updates = new LinkedHashMap<>();
+        Set<Long> deletes = new HashSet<>();
+        for (String entry : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            String[] parts = entry.split("\\|");
+            try {
+                if (parts.length == 3 && "U".equals(parts[0])) {
+                    Long itemId = Long.valueOf(parts[1]);
+                    updates.put(itemId, Integer.valueOf(parts[2]));
+                    deletes.remove(itemId);
+                } else if (parts.length == 2 && "D".equals(parts[0])) {
+                    Long itemId = Long.valueOf(parts[1]);
+                    deletes.add(itemId);
+                    updates.remove(itemId);
+                }
+            } catch (NumberFormatException e) {
+                // 기록 도중 중단된 마지막 줄은 무시
+            }
+        }
+        applyToDatabase(updates, deletes);
+        Files.delete(path);
+        System.out.println("장바구니 로그 복구 완료: " + path + " (수정 " + updates.size() + "건, 삭제 " + deletes.size() + "건)");
+    }
+
+    private void appendLog(String entry) {
+        logLock.lock();
+        try {
+            logWriter.write(entry);
+            logWriter.newLine();
+            logWriter.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("장바구니 로그 기록 중 오류가 발생했습니다.", e);
+        } finally {
+            logLock.unlock();
+        }
+    }
+
+    private void rotateLog(Path flushingLog) {
+        logLock.lock();
+        try {
+            logWriter.close();
+            Path path = Paths.get(logPath);
+            if (Files.exists(path)) {
+                Files.move(path, flushingLog, StandardCopyOption.REPLACE_EXISTING);
+            }
+            logWriter = openLog(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("장바구니 로그 전환 중 오류가 발생했습니다.", e);
+        } finally {
+            logLock.unlock();
+        }
+    }
+
+    private BufferedWriter openLog(Path path) throws IOException {
+        return Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private Path flushingLogPath() {
+        return Paths.get(logPath + ".flushing");
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            System.err.println("장바구니 로그 삭제 실패: " + path);
+        }
+    }
+
+    // 사용자 장바구니
+    private static class UserCart {
+        private final Long userId;
+        private final String username;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<Long, CartLine> lines = new LinkedHashMap<>(); // 상품 ID -> 항목
+        private final Set<Long> dirtyItemIds = new HashSet<>();   // 수량 변경 대기
+        private final Set<Long> deletedItemIds = new HashSet<>(); // 삭제 대기
+        private LocalDateTime lastAccess = LocalDateTime.now();
+        private boolean evicted;
+
+        UserCart(Long userId, String username) {
+            this.userId = userId;
+            this.username = username;
+        }
+
+        CartLine findById(Long cartItemId) {
+            CartLine line = findByIdOrNull(cartItemId);
+            if (line == null) {
+                throw new RuntimeException("장바구니 항목을 찾을 수 없습니다. ID: " + cartItemId);
+            }
+            return line;
+        }
+
+        CartLine findByIdOrNull(Long cartItemId) {
+            for (CartLine line : lines.values()) {
+                if (line.id.equals(cartItemId)) {
+                    return line;
+                }
+            }
+            return null;
+        }
+
+        List<CartLine> snapshot() {
+            List<CartLine> snapshot = new ArrayList<>(lines.size());
+            for (CartLine line : lines.values()) {
+                snapshot.add(line.copy());
+            }
+            return snapshot;
+        }
+    }
+
+    // 장바구니 항목
+    public static class CartLine {
+        private final Long id;
+        private final Long userId;
+        private final Long productId;
+        private int quantity;
+        private final LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+
+        CartLine(Long id, Long userId, Long productId, int quantity, LocalDateTime createdAt, LocalDateTime updatedAt) {
+            this.id = id;
+            this.userId = userId;
+            this.productId = productId;
+            this.quantity = quantity;
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+        }
+
+        CartLine copy() {
+            return new CartLine(id, userId, productId, quantity, createdAt, updatedAt);
+        }
+
+        public Long getId() { return id; }
+        public Long getUserId() { return userId; }
+        public Long getProductId() { return productId; }
+        public int getQuantity() { return quantity; }
+        public LocalDateTime getCreatedAt() { return createdAt; }
+        public LocalDateTime getUpdatedAt() { return updatedAt; }
+    }
+}
@@ -2,18 +2,33 @@ package com.shoplite.service;
 
 import com.shoplite.model.Category;
 import com.shoplite.repository.CategoryRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public class CategoryService {
 
+    private static final String CATEGORY_CACHE_REGION = "category";
+    private static final String QUERY_CACHE_REGION = "default-query-results-region";
+
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CategoryTreeCache categoryTreeCache;
+
     public List<Category> getAllCategories() {
         return categoryRepository.findAll();
     }
@@ -30,6 +45,8 @@ public class CategoryService {
         throw new RuntimeException("카테고리를 찾을 수 없습니다. ID: " + id);
     }
 
+    // 카테고리 엔티티와 활성 카테고리 쿼리는 2차 캐시에 저장됨
+    // 생성/수정/삭제 시 Hibernate 가 엔티티 캐시를 갱신하고 categories 쿼리 캐시를 무효화함
     public Category createCategory(Category category) {
         // 카테고리명 중복 체크
         if (categoryRepository.existsByName(category.getName())) {
@@ -44,7 +61,9 @@ public class CategoryService {
             category.setDisplayOrder(0);
         }
 
-        return categoryRepository.save(category);
+        Category savedCategory = categoryRepository.save(category);
+        categoryTreeCache.categorySaved(savedCategory);
+        return savedCategory;
     }
 
     public Category updateCategory(Long id, Category categoryDetails) {
@@ -71,7 +90,9 @@ public class CategoryService {
             category.setIsActive(categoryDetails.getIsActive());
         }
 
-        return categoryRepository.save(category);
+        Category savedCategory = categoryRepository.save(category);
+        categoryTreeCache.categorySaved(savedCategory);
+        return savedCategory;
     }
 
     public void deleteCategory(Long id) {
@@ -83,14 +104,42 @@ public class CategoryService {
         // }
         
         categoryRepository.delete(category);
+        categoryTreeCache.categoryDeleted(id);
+    }
+
+    // 카테고리 목록 + 카테고리별 상품 수/가격 범위 (메모리 스냅샷)
+    public List<CategoryTreeCache.CategoryNode> getCategoryTree() {
+        return categoryTreeCache.getCategories();
     }
 
     public List<Category> searchCategoriesByName(String name) {
         return categoryRepository.findByNameContainingIgnoreCase(name);
     }
-}
-
-
 
+    // 카테고리 캐시 적중률 (엔티티 캐시 / 쿼리 캐시)
+    public Map<String, Object> getCacheStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
 
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        if (!statistics.isStatisticsEnabled()) {
+            // hibernate.generate_statistics 가 꺼져 있으면 수집된 값이 없음
+            result.put("message", "statistics disabled (hibernate.generate_statistics=false)");
+            return result;
+        }
+        result.put("entity", toStatisticsMap(statistics.getDomainDataRegionStatistics(CATEGORY_CACHE_REGION)));
+        result.put("query", toStatisticsMap(statistics.getQueryRegionStatistics(QUERY_CACHE_REGION)));
+        return result;
+    }
 
+    private Map<String, Object> toStatisticsMap(CacheRegionStatistics regionStatistics) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        long hits = regionStatistics != null ? regionStatistics.getHitCount() : 0L;
+        long misses = regionStatistics != null ? regionStatistics.getMissCount() : 0L;
+        result.put("hits", hits);
+        result.put("misses", misses);
+        result.put("puts", regionStatistics != null ? regionStatistics.getPutCount() : 0L);
+        result.put("hitRate", hits + misses > 0 ? (double) hits / (hits + misses) : 0.0);
+        return result;
+    }
+}
@@ -0,0 +1,246 @@
+package com.shoplite.service;
+
+import com.shoplite.model.Category;
+import com.shoplite.model.Product;
+import com.shoplite.repository.CategoryRepository;
+import com.shoplite.repository.ProductRepository;
+import com.shoplite.util.TransactionUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 카테고리 목록 스냅샷 (표시 순서, 카테고리별 활성 상품 수, 최저/최고가)
+// 기동 시 한 번 로드하고 이후 상품/카테고리 변경 이벤트로 갱신. 조회는 불변 스냅샷을 그대로 반환
+@Component
+public class CategoryTreeCache {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    // 아래 상태는 this 잠금 안에서만 변경
+    private final Map<Long, CategoryInfo> categories = new HashMap<>();
+    private final Map<Long, ProductInfo> products = new HashMap<>();
+    private final Map<Long, CategoryStats> statsByCategory = new HashMap<>();
+    private long version; // 변경 이벤트를 반영할 때마다 증가
+
+    private volatile List<CategoryNode> snapshot = List.of();
+
+    // DB 조회는 잠금 밖에서 하고 (가상 스레드 고정 방지) 메모리 반영만 잠금 안에서 처리
+    // 조회하는 동안 변경 이벤트가 반영됐으면 조회 결과가 그보다 오래됐을 수 있으므로 다시 조회
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        while (true) {
+            long startVersion;
+            synchronized (this) {
+                startVersion = version;
+            }
+            List<Category> loadedCategories = categoryRepository.findAll();
+            List<Object[]> productRows = productRepository.findCategoryStatsRows();
+            if (apply(startVersion, loadedCategories, productRows)) {
+                return;
+            }
+        }
+    }
+
+    // 활성 카테고리 목록 (표시 순서)
+    public List<CategoryNode> getCategories() {
+        return snapshot;
+    }
+
+    // 상품 생성/수정 반영 (커밋 후)
+    public void productSaved(Product product) {
+        ProductInfo info = new ProductInfo(product.getId(),
+                product.getCategory() != null ? product.getCategory().getId() : null,
+                product.getPrice(), product.getIsActive());
+        TransactionUtil.runAfterCommit(() -> {
+            synchronized (this) {
+                removeProduct(info.productId);
+                addProduct(info);
+                publish();
+            }
+        });
+    }
+
+    // 상품 삭제 반영 (커밋 후)
+    public void productDeleted(Long productId) {
+        TransactionUtil.runAfterCommit(() -> {
+            synchronized (this) {
+                removeProduct(productId);
+                publish();
+            }
+        });
+    }
+
+    // 카테고리 생성/수정 반영 (커밋 후)
+    public void categorySaved(Category category) {
+        CategoryInfo info = new CategoryInfo(category);
+        TransactionUtil.runAfterCommit(() -> {
+            synchronized (this) {
+                categories.put(info.id, info);
+                publish();
+            }
+        });
+    }
+
+    // 카테고리 삭제 반영 (커밋 후, 속한 상품도 함께 삭제됨)
+    public void categoryDeleted(Long categoryId) {
+        TransactionUtil.runAfterCommit(() -> {
+            synchronized (this) {
+                categories.remove(categoryId);
+                statsByCategory.remove(categoryId);
+                products.values().removeIf(product -> categoryId.equals(product.categoryId));
+                publish();
+            }
+        });
+    }
+
+    // 조회 결과로 전체를 다시 구성 (조회 시작 후 반영된 변경이 있으면 false)
+    private synchronized boolean apply(long startVersion, List<Category> loadedCategories, List<Object[]> productRows) {
+        if (version != startVersion) {
+            return false;
+        }
+        categories.clear();
+        products.clear();
+        statsByCategory.clear();
+
+        for (Category category : loadedCategories) {
+            categories.put(category.getId(), new CategoryInfo(category));
+        }
+        for (Object[] row : productRows) {
+            addProduct(new ProductInfo((Long) row[0], (Long) row[1], (Double) row[2], (Boolean) row[3]));
+        }
+        publish();
+        return true;
+    }
+
+    private void addProduct(ProductInfo product) {
+        products.put(product.productId, product);
+        if (product.categoryId == null || !product.active || product.price == null) {
+            return;
+        }
+        statsByCategory.computeIfAbsent(product.categoryId, id -> new CategoryStats()).add(product.price);
+    }
+
+    private void removeProduct(Long productId) {
+        ProductInfo previous = products.remove(productId);
+        if (previous == null || previous.categoryId == null || !previous.active || previous.price == null) {
+            return;
+        }
+        CategoryStats stats = statsByCategory.get(previous.categoryId);
+        if (stats != null) {
+            stats.remove(previous.price);
+        }
+    }
+
+    // 카테고리 수만큼만 다시 만들어 교체 (this 잠금 안에서 호출)
+    private void publish() {
+        version++;
+        List<CategoryNode> nodes = new ArrayList<>();
+        for (CategoryInfo category : categories.values()) {
+            if (!category.active) {
+                continue;
+            }
+            CategoryStats stats = statsByCategory.get(category.id);
+            nodes.add(new CategoryNode(category.id, category.name, category.description, category.imageUrl,
+                    category.displayOrder,
+                    stats != null ? stats.count : 0,
+                    stats != null && stats.count > 0 ? stats.prices.firstKey() : null,
+                    stats != null && stats.count > 0 ? stats.prices.lastKey() : null));
+        }
+        nodes.sort(Comparator.comparing(CategoryNode::getDisplayOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(CategoryNode::getId));
+        snapshot = List.copyOf(nodes);
+    }
+
+    private static class CategoryInfo {
+        private final Long id;
+        private final String name;
+        private final String description;
+        private final String imageUrl;
+        private final Integer displayOrder;
+        private final boolean active;
+
+        CategoryInfo(Category category) {
+            this.id = category.getId();
+            this.name = category.getName();
+            this.description = category.getDescription();
+            this.imageUrl = category.getImageUrl();
+            this.displayOrder = category.getDisplayOrder();
+            this.active = category.getIsActive() == null || category.getIsActive();
+        }
+    }
+
+    private static class ProductInfo {
+        private final Long productId;
+        private final Long categoryId;
+        private final Double price;
+        private final boolean active;
+
+        ProductInfo(Long productId, Long categoryId, Double price, Boolean active) {
+            this.productId = productId;
+            this.categoryId = categoryId;
+            this.price = price;
+            this.active = active == null || active;
+        }
+    }
+
+    // 카테고리별 활성 상품 수와 가격 분포 (가격 -> 상품 수, 최저/최고가 계산용)
+    private static class CategoryStats {
+        private int count;
+        private final TreeMap<Double, Integer> prices = new TreeMap<>();
+
+        void add(Double price) {
+            count++;
+            prices.merge(price, 1, Integer::sum);
+        }
+
+        void remove(Double price) {
+            count--;
+            prices.computeIfPresent(price, (key, value) -> value > 1 ? value - 1 : null);
+        }
+    }
+
+    // 카테고리 목록 항목
+    public static class CategoryNode {
+        private final Long id;
+        private final String name;
+        private final String description;
+        private final String imageUrl;
+        private final Integer displayOrder;
+        private final int productCount;
+        private final Double minPrice;
+        private final Double maxPrice;
+
+        public CategoryNode(Long id, String name, String description, String imageUrl, Integer displayOrder,
+                            int productCount, Double minPrice, Double maxPrice) {
+            this.id = id;
+            this.name = name;
+            this.description = description;
+            this.imageUrl = imageUrl;
+            this.displayOrder = displayOrder;
+            this.productCount = productCount;
+            this.minPrice = minPrice;
+            this.maxPrice = maxPrice;
+        }
+
+        public Long getId() { return id; }
+        public String getName() { return name; }
+        public String getDescription() { return description; }
+        public String getImageUrl() { return imageUrl; }
+        public Integer getDisplayOrder() { return displayOrder; }
+        public int getProductCount() { return productCount; }
+        public Double getMinPrice() { return minPrice; }
+        public Double getMaxPrice() { return maxPrice; }
+    }
+}
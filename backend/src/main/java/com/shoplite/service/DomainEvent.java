@@ -0,0 +1,52 @@
+package com.shoplite.service;
+
+import com.shoplite.model.OutboxEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// 핸들러에 전달되는 도메인 이벤트 (outbox 행의 JSON 내용을 풀어둔 형태)
+public class DomainEvent {
+    private final Long id;
+    private final OutboxEvent.EventType type;
+    private final Long aggregateId;
+    private final Map<String, Object> payload;
+    private final LocalDateTime createdAt;
+
+    public DomainEvent(Long id, OutboxEvent.EventType type, Long aggregateId, Map<String, Object> payload, LocalDateTime createdAt) {
+        this.id = id;
+        this.type = type;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+    public OutboxEvent.EventType getType() { return type; }
+    public Long getAggregateId() { return aggregateId; }
+    public Map<String, Object> getPayload() { return payload; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public String getString(String key) {
+        Object value = payload.get(key);
+        return value != null ? value.toString() : null;
+    }
+
+    // JSON 숫자는 Integer/Long/Double 로 풀리므로 Number 로 받아 변환
+    public Long getLong(String key) {
+        Object value = payload.get(key);
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+
+    public Double getDouble(String key) {
+        Object value = payload.get(key);
+        return value instanceof Number ? ((Number) value).doubleValue() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> getList(String key) {
+        Object value = payload.get(key);
+        return value instanceof List ? (List<Map<String, Object>>) value : List.of();
+    }
+}
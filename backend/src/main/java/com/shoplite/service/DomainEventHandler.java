@@ -0,0 +1,23 @@
+package com.shoplite.service;
+
+import com.shoplite.model.OutboxEvent;
+
+import java.util.List;
+import java.util.Set;
+
+// 도메인 이벤트 소비자 (빈으로 등록하면 디스패처가 자동으로 전달)
+// 최소 한 번 전달이므로 같은 이벤트를 다시 받아도 결과가 크게 틀어지지 않게 구현
+public interface DomainEventHandler {
+
+    // 처리할 이벤트 종류
+    Set<OutboxEvent.EventType> getEventTypes();
+
+    // 이벤트 묶음 처리 (디스패처가 연 트랜잭션 안에서 호출, 예외 시 이벤트별로 다시 호출)
+    void handle(List<DomainEvent> events);
+
+    // 묶음 처리가 실패했을 때 이벤트별로 다시 호출해도 되는지
+    // 트랜잭션 롤백으로 되돌려지지 않는 처리(메모리 집계 등)는 false 로 두어 처음부터 이벤트 하나씩 전달받음
+    default boolean isBatchRetryable() {
+        return true;
+    }
+}
@@ -0,0 +1,41 @@
+package com.shoplite.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shoplite.model.OutboxEvent;
+import com.shoplite.repository.OutboxEventRepository;
+import com.shoplite.util.TransactionUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+// 도메인 이벤트 발행
+// 호출한 서비스의 트랜잭션 안에서 outbox 에 기록하므로 업무 데이터와 함께 커밋/롤백되고,
+// 커밋 후 디스패처를 깨워 바로 전달
+@Service
+public class DomainEventPublisher {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional
+    public void publish(OutboxEvent.EventType type, Long aggregateId, Map<String, Object> payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("도메인 이벤트 직렬화에 실패했습니다: " + type);
+        }
+
+        outboxEventRepository.save(new OutboxEvent(type, aggregateId, json));
+        TransactionUtil.runAfterCommit(outboxDispatcher::wakeUp);
+    }
+}
@@ -0,0 +1,227 @@
+package com.shoplite.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 자주 요청되는 이미지 파일 내용 캐시 (힙 밖 direct ByteBuffer, 바이트 예산 기준 LRU)
+// 내용 주소 이름(해시) 파일은 내용이 바뀌지 않으므로 파일 시스템을 보지 않고 바로 제공하고,
+// 그 외 파일은 revalidate-ms 마다 크기 / 수정 시각을 확인해 바뀌었으면 다시 읽음
+// 한 번만 요청된 파일(크롤러 등)이 캐시를 밀어내지 않도록 두 번째 미스부터 올리고, 같은 파일은 한 번만 읽음
+@Component
+public class HotFileCache {
+
+    @Value("${file.hot-cache.max-bytes:67108864}")
+    private long maxBytes;
+
+    @Value("${file.hot-cache.max-entry-bytes:2097152}")
+    private long maxEntryBytes;
+
+    @Value("${file.hot-cache.revalidate-ms:1000}")
+    private long revalidateMs;
+
+    @Value("${file.hot-cache.admission-window:10000}")
+    private int admissionWindow;
+
+    // 파일 경로 -> 캐시 항목 (접근 순서, this 잠금 안에서만 접근)
+    private final LinkedHashMap<Path, CachedFile> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+
+    // 한 번 미스난 파일 (두 번째 미스에 캐시에 올림, 오래된 것부터 잊음, this 잠금 안에서만 접근)
+    private final LinkedHashMap<Path, Boolean> seenOnce = new LinkedHashMap<>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, Boolean> eldest) {
+            return size() > admissionWindow;
+        }
+    };
+
+    // 읽는 중인 파일 (동시에 미스난 요청은 같은 결과를 기다림)
+    private final ConcurrentHashMap<Path, CompletableFuture<CachedFile>> loading = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bytesServed = new LongAdder();
+
+    // 파일 시스템을 보지 않고 제공할 수 있는 캐시 항목이 있는지 (접근 순서는 바꾸지 않음)
+    public synchronized boolean containsFresh(Path file, boolean immutable) {
+        CachedFile cached = entries.get(file);
+        return cached != null && (immutable || !needsRevalidation(cached));
+    }
+
+    // 캐시된 파일 내용 (없거나 오래됐으면 읽어서 저장, 캐시하지 않는 파일이면 null)
+    public CachedFile get(Path file, boolean immutable) throws IOException {
+        CachedFile cached;
+        synchronized (this) {
+            cached = entries.get(file);
+        }
+        if (cached != null && (immutable || isCurrent(file, cached))) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        CompletableFuture<CachedFile> pending = loading.get(file);
+        if (pending != null) {
+            return await(pending);
+        }
+        // 바뀐 파일은 이미 자주 쓰던 파일이므로 바로 다시 올림
+        if (cached == null && !admit(file)) {
+            return null;
+        }
+
+        CompletableFuture<CachedFile> future = new CompletableFuture<>();
+        pending = loading.putIfAbsent(file, future);
+        if (pending != null) {
+            return await(pending);
+        }
+        try {
+            CachedFile loaded = load(file);
+            if (loaded != null) {
+                put(file, loaded);
+            }
+            future.complete(loaded);
+            return loaded;
+        } catch (IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(file, future);
+        }
+    }
+
+    // 파일이 바뀌거나 삭제될 때 호출
+    public synchronized void invalidate(Path file) {
+        CachedFile removed = entries.remove(file);
+        if (removed != null) {
+            cachedBytes -= removed.getLength();
+        }
+        seenOnce.remove(file);
+    }
+
+    public void recordBytesServed(long bytes) {
+        bytesServed.add(bytes);
+    }
+
+    // 캐시 통계
+    public Map<String, Object> getStatistics() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("hits", hitCount);
+        statistics.put("misses", missCount);
+        statistics.put("hitRate", hitCount + missCount > 0 ? (double) hitCount / (hitCount + missCount) : 0.0);
+        statistics.put("bytesServed", bytesServed.sum());
+        synchronized (this) {
+            statistics.put("entries", entries.size());
+            statistics.put("cachedBytes", cachedBytes);
+        }
+        statistics.put("maxBytes", maxBytes);
+        return statistics;
+    }
+
+    // 처음 미스난 파일은 기록만 하고 캐시하지 않음
+    private synchronized boolean admit(Path file) {
+        if (seenOnce.remove(file) != null) {
+            return true;
+        }
+        seenOnce.put(file, Boolean.TRUE);
+        return false;
+    }
+
+    private CachedFile load(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long size = attributes.size();
+        if (size > maxEntryBytes || size > maxBytes) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) size);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // 끝까지 읽기
+            }
+        }
+        buffer.flip();
+        return new CachedFile(buffer.asReadOnlyBuffer(), attributes.lastModifiedTime().toMillis());
+    }
+
+    private CachedFile await(CompletableFuture<CachedFile> pending) throws IOException {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private synchronized void put(Path file, CachedFile cached) {
+        CachedFile previous = entries.put(file, cached);
+        cachedBytes += cached.getLength() - (previous != null ? previous.getLength() : 0L);
+
+        // 예산을 넘으면 오래 안 쓴 항목부터 제거 (버퍼는 GC 시 해제)
+        Iterator<Map.Entry<Path, CachedFile>> iterator = entries.entrySet().iterator();
+        while (cachedBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<Path, CachedFile> eldest = iterator.next();
+            if (eldest.getKey().equals(file)) {
+                continue;
+            }
+            cachedBytes -= eldest.getValue().getLength();
+            iterator.remove();
+        }
+    }
+
+    private boolean needsRevalidation(CachedFile cached) {
+        return System.currentTimeMillis() - cached.checkedAt >= revalidateMs;
+    }
+
+    // 마지막 확인 후 revalidate-ms 가 지났을 때만 파일 시스템 확인
+    private boolean isCurrent(Path file, CachedFile cached) {
+        if (!needsRevalidation(cached)) {
+            return true;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            boolean current = attributes.size() == cached.getLength()
+                    && attributes.lastModifiedTime().toMillis() == cached.getLastModified();
+            if (current) {
+                cached.checkedAt = System.currentTimeMillis();
+            }
+            return current;
+        } catch (IOException e) {
+            invalidate(file);
+            return false;
+        }
+    }
+
+    // 캐시 항목 (읽기 전용 버퍼, 사용할 때는 duplicate() 로 위치를 따로 가짐)
+    public static class CachedFile {
+        private final ByteBuffer content;
+        private final long lastModified;
+        private volatile long checkedAt = System.currentTimeMillis(); // 마지막으로 파일 시스템과 맞춰 본 시각
+
+        CachedFile(ByteBuffer content, long lastModified) {
+            this.content = content;
+            this.lastModified = lastModified;
+        }
+
+        public ByteBuffer getContent() { return content.duplicate(); }
+        public long getLength() { return content.capacity(); }
+        public long getLastModified() { return lastModified; }
+    }
+}
@@ -0,0 +1,156 @@
+package com.shoplite.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// 내용 주소 기반 이미지 저장소
+// 업로드를 임시 파일로 복사하면서 SHA-256 을 계산하고, {해시 앞 2자리}/{다음 2자리}/{해시}.{확장자} 에 한 번만 저장
+// 같은 이미지를 여러 번 올려도 파일은 하나이고 URL 도 항상 같음
+@Service
+public class ImageStorageService {
+
+    private static final Pattern STORED_NAME = Pattern.compile("^[0-9a-f]{64}(\\.[a-z0-9]+)?$");
+
+    // MIME 타입 -> 저장 확장자 (같은 내용이면 같은 이름이 되도록 원본 파일명 대신 사용)
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", ".jpg",
+            "image/png", ".png",
+            "image/gif", ".gif",
+            "image/webp", ".webp",
+            "image/bmp", ".bmp",
+            "image/svg+xml", ".svg");
+
+    @Value("${file.upload-dir:uploads}")
+    private String uploadDir;
+
+    // 이미지 저장 후 결과 반환
+    public StoredImage store(MultipartFile file) throws IOException {
+        Path baseDir = getBaseDir();
+        Path tempDir = baseDir.resolve("tmp");
+        Files.createDirectories(tempDir);
+
+        Path tempFile = Files.createTempFile(tempDir, "upload-", ".part");
+        try {
+            MessageDigest digest = newDigest();
+            try (InputStream in = file.getInputStream();
+                 OutputStream out = new DigestOutputStream(Files.newOutputStream(tempFile), digest)) {
+                in.transferTo(out);
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String filename = hash + getExtension(file);
+            Path target = resolve(filename);
+
+            boolean created = false;
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                created = moveIntoPlace(tempFile, target);
+            }
+            return new StoredImage(filename, hash, Files.size(target), created);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    // 저장 파일명 -> 실제 경로 (내용 주소 이름이 아니면 업로드 디렉토리 바로 아래)
+    public Path resolve(String filename) {
+        Path baseDir = getBaseDir();
+        if (!isStoredName(filename)) {
+            return baseDir.resolve(filename).normalize();
+        }
+        return baseDir.resolve(filename.substring(0, 2)).resolve(filename.substring(2, 4)).resolve(filename);
+    }
+
+    public boolean isStoredName(String filename) {
+        return STORED_NAME.matcher(filename).matches();
+    }
+
+    // 이미지 URL (파일 서빙 API 경로)
+    public String getUrl(String filename) {
+        return "/api/files/" + filename;
+    }
+
+    private boolean moveIntoPlace(Path tempFile, Path target) throws IOException {
+        try {
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return false; // 같은 이미지가 동시에 저장됨
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(tempFile, target);
+                return true;
+            } catch (FileAlreadyExistsException ex) {
+                return false;
+            }
+        }
+    }
+
+    private String getExtension(MultipartFile file) {
+        String contentType = file.getContentType();
+        if (contentType != null) {
+            String extension = EXTENSIONS.get(contentType.toLowerCase(Locale.ROOT));
+            if (extension != null) {
+                return extension;
+            }
+        }
+        String originalFilename = file.getOriginalFilename();
+        if (originalFilename != null && originalFilename.contains(".")) {
+            String extension = originalFilename.substring(originalFilename.lastIndexOf(".")).toLowerCase(Locale.ROOT);
+            if (extension.matches("\\.[a-z0-9]+")) {
+                return extension;
+            }
+        }
+        return "";
+    }
+
+    private Path getBaseDir() {
+        return Paths.get(uploadDir).toAbsolutePath().normalize();
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 저장 결과
+    public static class StoredImage {
+        private final String filename;
+        private final String hash;
+        private final long size;
+        private final boolean created; // false 면 이미 있던 파일 재사용
+
+        public StoredImage(String filename, String hash, long size, boolean created) {
+            this.filename = filename;
+            this.hash = hash;
+            this.size = size;
+            this.created = created;
+        }
+
+        public String getFilename() { return filename; }
+        public String getHash() { return hash; }
+        public long getSize() { return size; }
+        public boolean isCreated() { return created; }
+    }
+}
@@ -0,0 +1,112 @@
+package com.shoplite.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 다중 이미지 업로드 처리
+// 멀티파트 파트는 도착하는 대로 디스크 임시 파일에 기록되고 (file-size-threshold 0),
+// 파일별 검증 / 해시 / 저장은 제한된 워커 풀에서 병렬로 처리해 파일별 결과를 반환
+@Service
+public class ImageUploadService {
+
+    private static final long MAX_FILE_SIZE = 5 * 1024 * 1024;
+
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    @Autowired
+    private ImageVariantService imageVariantService;
+
+    @Value("${file.upload.worker-threads:4}")
+    private int workerThreads;
+
+    @Value("${file.upload.queue-capacity:50}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workerThreads, workerThreads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "image-upload-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // 풀이 가득 차면 요청 스레드에서 처리 (백프레셔)
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 여러 파일을 병렬로 저장하고 요청 순서대로 파일별 결과 반환
+    public List<Map<String, Object>> uploadAll(MultipartFile[] files) {
+        List<CompletableFuture<Map<String, Object>>> futures = new ArrayList<>(files.length);
+        for (MultipartFile file : files) {
+            futures.add(CompletableFuture.supplyAsync(() -> upload(file), executor));
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>(files.length);
+        for (CompletableFuture<Map<String, Object>> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    // 파일 하나 검증 후 저장 (예외 대신 실패 결과 반환, 요청 스레드에서 바로 처리)
+    public Map<String, Object> upload(MultipartFile file) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("originalFilename", file.getOriginalFilename());
+
+        if (file.isEmpty()) {
+            return failure(result, "파일이 비어있습니다.");
+        }
+        String contentType = file.getContentType();
+        if (contentType == null || !contentType.startsWith("image/")) {
+            return failure(result, "이미지 파일만 업로드 가능합니다.");
+        }
+        if (file.getSize() > MAX_FILE_SIZE) {
+            return failure(result, "파일 크기는 5MB를 초과할 수 없습니다.");
+        }
+
+        try {
+            // 파일 저장 (내용 해시 이름, 같은 이미지는 한 번만 저장)
+            ImageStorageService.StoredImage storedImage = imageStorageService.store(file);
+            imageVariantService.enqueue(storedImage.getFilename()); // 썸네일 / 반응형 변형 생성 예약
+
+            result.put("success", true);
+            result.put("filename", storedImage.getFilename());
+            result.put("url", imageStorageService.getUrl(storedImage.getFilename()));
+            result.put("size", storedImage.getSize());
+            result.put("deduplicated", !storedImage.isCreated());
+            return result;
+        } catch (IOException | RuntimeException e) {
+            return failure(result, "파일 업로드 중 오류: " + e.getMessage());
+        }
+    }
+
+    private Map<String, Object> failure(Map<String, Object> result, String message) {
+        result.put("success", false);
+        result.put("message", message);
+        return result;
+    }
+}
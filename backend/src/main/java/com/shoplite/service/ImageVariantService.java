@@ -0,0 +1,341 @@
+package com.shoplite.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 이미지 리사이즈 변형 (썸네일 / 반응형 너비) 생성
+// 업로드 시 제한된 워커 풀에서 미리 만들고, 없는 변형은 요청 시 만들어 디스크 용량 기준 LRU 로 관리
+@Service
+public class ImageVariantService {
+
+    private static final Map<String, String> FORMATS = Map.of(
+            "jpg", "jpg",
+            "jpeg", "jpg",
+            "png", "png",
+            "gif", "png",
+            "bmp", "png");
+
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    @Autowired
+    private HotFileCache hotFileCache;
+
+    @Value("${file.upload-dir:uploads}")
+    private String uploadDir;
+
+    @Value("${image.variants.widths:200,400,800}")
+    private List<Integer> widths;
+
+    @Value("${image.variants.worker-threads:2}")
+    private int workerThreads;
+
+    @Value("${image.variants.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${image.variants.max-disk-bytes:524288000}")
+    private long maxDiskBytes;
+
+    @Value("${image.variants.max-source-pixels:25000000}")
+    private long maxSourcePixels;
+
+    private Path variantDir;
+
+    private ThreadPoolExecutor executor;
+
+    private boolean webpSupported;
+
+    // 원본을 그대로 쓰는 이미지 -> 원본 너비 (변형할 수 없으면 UNUSABLE)
+    // 저장 파일명은 내용 해시라 바뀌지 않으므로 만료 없이 유지 (요청마다 다시 읽지 않도록)
+    private static final int UNUSABLE = -1;
+    private final ConcurrentHashMap<String, Integer> originalOnly = new ConcurrentHashMap<>();
+
+    // 생성 중인 변형 (같은 변형을 동시에 두 번 만들지 않도록)
+    private final ConcurrentHashMap<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    // 변형 파일 -> 크기 (접근 순서, lruLock 안에서만 접근)
+    private final LinkedHashMap<Path, Long> lru = new LinkedHashMap<>(16, 0.75f, true);
+    private final Object lruLock = new Object();
+    private long totalBytes;
+
+    @PostConstruct
+    public void init() throws IOException {
+        widths = widths.stream().distinct().sorted().collect(Collectors.toList());
+        variantDir = Paths.get(uploadDir).toAbsolutePath().normalize().resolve("variants");
+        Files.createDirectories(variantDir);
+        webpSupported = ImageIO.getImageWritersByMIMEType("image/webp").hasNext();
+
+        // 기존 변형 파일을 수정 시각 순으로 등록
+        try (Stream<Path> files = Files.list(variantDir)) {
+            List<Path> existing = files.filter(Files::isRegularFile)
+                    .sorted(Comparator.comparingLong(this::lastModified))
+                    .collect(Collectors.toList());
+            for (Path file : existing) {
+                track(file);
+            }
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workerThreads, workerThreads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // 큐가 가득 차면 버림 (요청 시 생성으로 대체)
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 업로드된 이미지의 모든 너비 변형 생성 예약
+    public void enqueue(String filename) {
+        if (!isResizable(filename)) {
+            return;
+        }
+        executor.execute(() -> {
+            for (Integer width : widths) {
+                for (boolean webp : webpSupported ? new boolean[] {false, true} : new boolean[] {false}) {
+                    try {
+                        getVariant(filename, width, webp);
+                    } catch (RuntimeException e) {
+                        System.err.println("이미지 변형 생성 실패: " + filename + " (" + width + "px) " + e.getMessage());
+                    }
+                }
+            }
+        });
+    }
+
+    // 요청 너비에 맞는 변형 경로 (없으면 만들고, 원본보다 크거나 변형할 수 없으면 원본 경로)
+    public Path getVariant(String filename, int requestedWidth, boolean preferWebp) {
+        Path original = imageStorageService.resolve(filename);
+        if (!isResizable(filename) || !Files.isRegularFile(original)) {
+            return original;
+        }
+
+        int width = normalizeWidth(requestedWidth);
+        Integer originalWidth = originalOnly.get(filename);
+        if (originalWidth != null && (originalWidth == UNUSABLE || originalWidth <= width)) {
+            return original;
+        }
+
+        boolean webp = preferWebp && webpSupported;
+        String format = webp ? "webp" : FORMATS.get(extensionOf(filename));
+        Path variant = variantDir.resolve(baseNameOf(filename) + "_w" + width + "." + format);
+
+        if (Files.isRegularFile(variant)) {
+            touch(variant);
+            return variant;
+        }
+
+        CompletableFuture<Path> future = new CompletableFuture<>();
+        CompletableFuture<Path> existing = inFlight.putIfAbsent(variant.toString(), future);
+        if (existing != null) {
+            return existing.join();
+        }
+        try {
+            Path result = generate(filename, original, variant, width, format);
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(variant.toString(), future);
+        }
+    }
+
+    public boolean isWebpSupported() {
+        return webpSupported;
+    }
+
+    private Path generate(String filename, Path original, Path variant, int width, String format) {
+        try {
+            BufferedImage source = readSource(filename, original, width);
+            if (source == null) {
+                return original;
+            }
+
+            int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+            boolean opaque = format.equals("jpg");
+            BufferedImage resized = new BufferedImage(width, height,
+                    opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+            Graphics2D graphics = resized.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(source, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+
+            // 임시 파일에 쓴 뒤 교체 (읽는 쪽이 덜 쓰인 파일을 보지 않도록)
+            Path tempFile = Files.createTempFile(variantDir, "variant-", ".part");
+            try {
+                if (!ImageIO.write(resized, format, tempFile.toFile())) {
+                    return original;
+                }
+                Files.move(tempFile, variant, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                hotFileCache.invalidate(variant);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+            track(variant);
+            return variant;
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 변형 생성 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // 헤더에서 크기를 먼저 확인한 뒤 디코딩 (원본을 그대로 써야 하면 기록하고 null)
+    // 픽셀 수가 기준을 넘는 이미지는 디코딩하지 않음 (작은 파일로 거대한 이미지를 선언해 메모리를 고갈시키는 경우 방지)
+    private BufferedImage readSource(String filename, Path original, int width) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                originalOnly.put(filename, UNUSABLE);
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int sourceWidth = reader.getWidth(0);
+                int sourceHeight = reader.getHeight(0);
+                if ((long) sourceWidth * sourceHeight > maxSourcePixels) {
+                    System.err.println("이미지 변형 생략 (픽셀 수 초과): " + filename + " " + sourceWidth + "x" + sourceHeight);
+                    originalOnly.put(filename, UNUSABLE);
+                    return null;
+                }
+                if (sourceWidth <= width) {
+                    originalOnly.put(filename, sourceWidth); // 이미 충분히 작은 이미지
+                    return null;
+                }
+
+                // 목표 너비의 2배 이상이면 건너뛰며 읽어 디코딩 메모리를 줄임
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, sourceWidth / (width * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("이미지 변형 생략 (디코딩 실패): " + filename + " " + e.getMessage());
+                originalOnly.put(filename, UNUSABLE);
+                return null;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 요청 너비 이상인 가장 작은 설정 너비 (없으면 가장 큰 너비)
+    private int normalizeWidth(int requestedWidth) {
+        for (Integer width : widths) {
+            if (width >= requestedWidth) {
+                return width;
+            }
+        }
+        return widths.get(widths.size() - 1);
+    }
+
+    private void track(Path variant) {
+        long size;
+        try {
+            size = Files.size(variant);
+        } catch (IOException e) {
+            return;
+        }
+
+        List<Path> evicted = new ArrayList<>();
+        synchronized (lruLock) {
+            Long previous = lru.put(variant, size);
+            totalBytes += size - (previous != null ? previous : 0L);
+
+            Iterator<Map.Entry<Path, Long>> iterator = lru.entrySet().iterator();
+            while (totalBytes > maxDiskBytes && iterator.hasNext()) {
+                Map.Entry<Path, Long> eldest = iterator.next();
+                if (eldest.getKey().equals(variant)) {
+                    continue;
+                }
+                totalBytes -= eldest.getValue();
+                evicted.add(eldest.getKey());
+                iterator.remove();
+            }
+        }
+
+        for (Path path : evicted) {
+            hotFileCache.invalidate(path);
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                System.err.println("이미지 변형 삭제 실패: " + path);
+            }
+        }
+    }
+
+    // 최근 사용으로 표시 (다른 경로로 생긴 파일이면 새로 등록)
+    private void touch(Path variant) {
+        synchronized (lruLock) {
+            if (lru.get(variant) != null) {
+                return;
+            }
+        }
+        track(variant);
+    }
+
+    private boolean isResizable(String filename) {
+        return FORMATS.containsKey(extensionOf(filename));
+    }
+
+    private String extensionOf(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return dot >= 0 ? filename.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+    }
+
+    private String baseNameOf(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return dot >= 0 ? filename.substring(0, dot) : filename;
+    }
+
+    private long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.shoplite.service;
+
+import com.shoplite.model.Product;
+import com.shoplite.repository.ProductRepository;
+import com.shoplite.util.TransactionUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 재고 부족 감시
+// 기동 시 상품별 재고를 한 번 읽고, 이후에는 재고 변경 시점(커밋 후)마다 갱신하며 위험 상품을 정렬된 상태로 유지
+// 기준 이하로 처음 떨어질 때만 대시보드에 알림 (계속 부족한 동안에는 재알림 없음)
+@Component
+public class LowStockWatcher {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    // 대시보드가 위험 상품 목록을 읽으므로 서로 참조 (지연 주입)
+    @Lazy
+    @Autowired
+    private AdminDashboardService adminDashboardService;
+
+    @Value("${inventory.low-stock.default-threshold:5}")
+    private int defaultThreshold;
+
+    // 위험도 순 (품절 → 기준 대비 재고 비율 → 재고 수량 → 상품 ID)
+    private static final Comparator<StockLevel> RISK_ORDER = Comparator
+            .comparingDouble(StockLevel::getStockRatio)
+            .thenComparingInt(StockLevel::getStockQuantity)
+            .thenComparing(StockLevel::getProductId);
+
+    // 아래 상태는 lock 안에서만 변경
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, StockLevel> levels = new HashMap<>();
+    private final TreeSet<StockLevel> atRisk = new TreeSet<>(RISK_ORDER);
+
+    // 조회용 스냅샷 (변경될 때마다 교체)
+    private volatile List<StockLevel> atRiskSnapshot = List.of();
+
+    // 상품 재고 초기 로드 (기동 시 1회)
+    // 조회는 잠금 밖이라 그사이 커밋 후 콜백으로 더 새로운 값이 반영됐을 수 있으므로, 비우지 않고 update 로 합침
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public void load() {
+        List<Object[]> rows = productRepository.findStockLevelRows();
+
+        lock.lock();
+        try {
+            for (Object[] row : rows) {
+                // [id, name, stockQuantity, reorderThreshold, updatedAt]
+                update(level((Long) row[0], (String) row[1],
+                        row[2] != null ? (Integer) row[2] : 0, (Integer) row[3], (LocalDateTime) row[4]), false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 상품 저장 후 재고 반영 (트랜잭션 안이면 커밋 후)
+    public void stockChanged(Product product) {
+        TransactionUtil.runAfterCommit(() -> update(level(product.getId(), product.getName(),
+                product.getStockQuantity() != null ? product.getStockQuantity() : 0,
+                product.getReorderThreshold(), product.getUpdatedAt()), true));
+    }
+
+    // 알림 기준 수량 변경 반영 (트랜잭션 안이면 커밋 후)
+    public void thresholdChanged(Long productId, Integer reorderThreshold) {
+        TransactionUtil.runAfterCommit(() -> {
+            lock.lock();
+            try {
+                StockLevel current = levels.get(productId);
+                if (current != null) {
+                    apply(current, level(productId, current.productName, current.stockQuantity,
+                            reorderThreshold, current.updatedAt), true);
+                }
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    // 상품 삭제 반영 (트랜잭션 안이면 커밋 후)
+    public void productDeleted(Long productId) {
+        TransactionUtil.runAfterCommit(() -> {
+            lock.lock();
+            try {
+                StockLevel removed = levels.remove(productId);
+                if (removed != null && atRisk.remove(removed)) {
+                    publishSnapshot();
+                    adminDashboardService.lowStockChanged(null);
+                }
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    // 위험 상품 목록 (위험도 순)
+    public List<StockLevel> getAtRiskProducts(int limit) {
+        List<StockLevel> snapshot = atRiskSnapshot;
+        return snapshot.subList(0, Math.min(limit, snapshot.size()));
+    }
+
+    public int getAtRiskCount() {
+        return atRiskSnapshot.size();
+    }
+
+    // notify 가 false 면 목록만 갱신하고 대시보드 알림은 보내지 않음 (초기 로드)
+    private void update(StockLevel level, boolean notify) {
+        lock.lock();
+        try {
+            StockLevel current = levels.get(level.productId);
+            // 커밋 후 콜백은 순서가 뒤바뀔 수 있으므로 더 오래된 변경은 무시
+            if (current != null && current.updatedAt != null && level.updatedAt != null
+                    && level.updatedAt.isBefore(current.updatedAt)) {
+                return;
+            }
+            // 알림 기준은 thresholdChanged 로만 바뀌므로 기존 값을 유지
+            if (current != null) {
+                level = level(level.productId, level.productName, level.stockQuantity,
+                        current.reorderThreshold, level.updatedAt);
+            }
+            apply(current, level, notify);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lock 안에서 호출
+    private void apply(StockLevel current, StockLevel level, boolean notify) {
+        boolean wasAtRisk = current != null && atRisk.remove(current);
+        boolean nowAtRisk = put(level);
+
+        if (!wasAtRisk && !nowAtRisk) {
+            return;
+        }
+        publishSnapshot();
+        // 기준 이하로 새로 떨어졌을 때만 알림, 그 밖의 변경은 목록 갱신만
+        if (notify) {
+            adminDashboardService.lowStockChanged(!wasAtRisk ? level : null);
+        }
+    }
+
+    // lock 안에서 호출
+    private boolean put(StockLevel level) {
+        levels.put(level.productId, level);
+        if (level.isAtRisk()) {
+            atRisk.add(level);
+            return true;
+        }
+        return false;
+    }
+
+    private void publishSnapshot() {
+        atRiskSnapshot = List.copyOf(atRisk);
+    }
+
+    // 상품별 기준이 없으면 기본 기준 수량 적용
+    private StockLevel level(Long productId, String productName, int stockQuantity, Integer reorderThreshold, LocalDateTime updatedAt) {
+        int threshold = reorderThreshold != null ? reorderThreshold : defaultThreshold;
+        return new StockLevel(productId, productName, stockQuantity, reorderThreshold, threshold, updatedAt);
+    }
+
+    // 상품별 재고 상태
+    public static class StockLevel {
+        private final Long productId;
+        private final String productName;
+        private final int stockQuantity;
+        private final Integer reorderThreshold;
+        private final int threshold;
+        private final LocalDateTime updatedAt;
+
+        public StockLevel(Long productId, String productName, int stockQuantity, Integer reorderThreshold, int threshold, LocalDateTime updatedAt) {
+            this.productId = productId;
+            this.productName = productName;
+            this.stockQuantity = stockQuantity;
+            this.reorderThreshold = reorderThreshold;
+            this.threshold = threshold;
+            this.updatedAt = updatedAt;
+        }
+
+        public Long getProductId() { return productId; }
+        public String getProductName() { return productName; }
+        public int getStockQuantity() { return stockQuantity; }
+        public Integer getReorderThreshold() { return reorderThreshold; }
+        public int getThreshold() { return threshold; }
+        public boolean isOutOfStock() { return stockQuantity <= 0; }
+
+        // 기준이 0이면 품절일 때만 위험
+        public boolean isAtRisk() {
+            return stockQuantity <= 0 || stockQuantity <= threshold;
+        }
+
+        // 기준 대비 남은 재고 비율 (품절은 0)
+        public double getStockRatio() {
+            if (stockQuantity <= 0) {
+                return 0.0;
+            }
+            return threshold > 0 ? (double) stockQuantity / threshold : Double.MAX_VALUE;
+        }
+    }
+}
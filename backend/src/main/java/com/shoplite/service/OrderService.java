@@ -3,15 +3,17 @@ package com.shoplite.service;
 import com.shoplite.controller.OrderController;
 import com.shoplite.model.*;
 import com.shoplite.repository.OrderRepository;
+import com.shoplite.util.OrderNumberGenerator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
 
 @Service
 public class OrderService {
@@ -25,6 +27,12 @@ public class OrderService {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
     public List<Order> getAllOrders() {
         return orderRepository.findAll();
     }
@@ -86,7 +94,13 @@ public class OrderService {
         order.setTotalAmount(totalAmount);
         order.setOrderItems(orderItems);
         
-        return orderRepository.save(order);
+        Order savedOrder = orderRepository.save(order);
+        
+        // 인기 상품 집계 등 후속 처리는 이벤트로 비동기 처리
+        domainEventPublisher.publish(OutboxEvent.EventType.ORDER_CREATED, savedOrder.getId(), orderPayload(savedOrder));
+        publishStatusChange(savedOrder, null);
+        
+        return savedOrder;
     }
 
     // 결제를 위한 주문 생성 (결제 대기 상태)
@@ -94,8 +108,8 @@ public class OrderService {
     public Order createOrderForPayment(Long userId, List<OrderController.OrderItemRequest> orderItemRequests, OrderController.ShippingInfo shippingInfo) {
         User user = userService.getUserById(userId);
         
-        // 주문 번호 생성 (UUID 기반)
-        String orderNumber = "ORDER_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
+        // 주문 번호 생성 (일반 주문과 같은 생성기 사용)
+        String orderNumber = OrderNumberGenerator.nextOrderNumber();
         
         // 주문 생성
         Order order = new Order();
@@ -132,7 +146,10 @@ public class OrderService {
         order.setOrderItems(orderItems);
         order.setTotalAmount(totalAmount);
         
-        return orderRepository.save(order);
+        Order savedOrder = orderRepository.save(order);
+        publishStatusChange(savedOrder, null);
+        
+        return savedOrder;
     }
 
     // 결제 완료 후 주문 확정
@@ -159,13 +176,23 @@ public class OrderService {
         
         // 주문 상태 변경
         order.setStatus(Order.OrderStatus.CONFIRMED);
-        return orderRepository.save(order);
+        Order savedOrder = orderRepository.save(order);
+        
+        // 인기 상품 집계 등 후속 처리는 이벤트로 비동기 처리
+        domainEventPublisher.publish(OutboxEvent.EventType.ORDER_CONFIRMED, savedOrder.getId(), orderPayload(savedOrder));
+        publishStatusChange(savedOrder, Order.OrderStatus.PENDING);
+        
+        return savedOrder;
     }
 
+    @Transactional
     public Order updateOrderStatus(Long id, Order.OrderStatus status) {
         Order order = getOrderById(id);
+        Order.OrderStatus previousStatus = order.getStatus();
         order.setStatus(status);
-        return orderRepository.save(order);
+        Order savedOrder = orderRepository.save(order);
+        publishStatusChange(savedOrder, previousStatus);
+        return savedOrder;
     }
 
     @Transactional
@@ -183,8 +210,10 @@ public class OrderService {
             productService.updateProduct(product.getId(), product);
         }
         
+        Order.OrderStatus previousStatus = order.getStatus();
         order.setStatus(Order.OrderStatus.CANCELLED);
         orderRepository.save(order);
+        publishStatusChange(order, previousStatus);
     }
 
     public Order getOrderByOrderNumber(String orderNumber) {
@@ -199,12 +228,48 @@ public class OrderService {
         return orderRepository.findByUserEmailOrderByCreatedAtDesc(email);
     }
 
+    // 배송 완료 주문 매출 합계 (일별 집계 합산)
     public Double getTotalRevenue() {
-        Double revenue = orderRepository.getTotalAmountByStatus(Order.OrderStatus.DELIVERED);
-        return revenue != null ? revenue : 0.0;
+        return salesRollupService.getTotalRevenue();
     }
 
+    // 해당 날짜 이후 주문 수 (일별 집계 기준이라 날짜 단위로 계산)
     public Long getOrderCountAfterDate(java.time.LocalDateTime date) {
-        return orderRepository.countOrdersAfterDate(date);
+        return salesRollupService.countOrdersPlacedSince(date.toLocalDate());
+    }
+
+    // 주문 상태 변경 이벤트 발행 (생성은 fromStatus 가 null, 같은 상태로의 변경은 무시)
+    public void publishStatusChange(Order order, Order.OrderStatus fromStatus) {
+        if (fromStatus == order.getStatus()) {
+            return;
+        }
+        Map<String, Object> payload = orderPayload(order);
+        payload.put("fromStatus", fromStatus != null ? fromStatus.name() : null);
+        domainEventPublisher.publish(OutboxEvent.EventType.ORDER_STATUS_CHANGED, order.getId(), payload);
+    }
+
+    // 주문 이벤트 내용 (주문 요약 + 상품별 수량/가격)
+    private Map<String, Object> orderPayload(Order order) {
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (OrderItem orderItem : order.getOrderItems()) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("productId", orderItem.getProduct().getId());
+            item.put("categoryId", orderItem.getProduct().getCategory() != null ? orderItem.getProduct().getCategory().getId() : null);
+            item.put("quantity", orderItem.getQuantity());
+            item.put("price", orderItem.getPrice());
+            items.add(item);
+        }
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("orderId", order.getId());
+        payload.put("orderNumber", order.getOrderNumber());
+        payload.put("userId", order.getUser().getId());
+        payload.put("status", order.getStatus().name());
+        payload.put("totalAmount", order.getTotalAmount());
+        // 매출 집계 기준일 (주문일 / 배송 완료일)
+        payload.put("placedDate", order.getCreatedAt() != null ? order.getCreatedAt().toLocalDate().toString() : null);
+        payload.put("deliveredDate", order.getDeliveredAt() != null ? order.getDeliveredAt().toLocalDate().toString() : null);
+        payload.put("items", items);
+        return payload;
     }
 }
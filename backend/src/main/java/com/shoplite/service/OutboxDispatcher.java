@@ -0,0 +1,264 @@
+package com.shoplite.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shoplite.model.OutboxEvent;
+import com.shoplite.repository.OutboxEventRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// outbox 이벤트 디스패처
+// 커밋 알림 또는 주기 폴링으로 깨어나 미처리 이벤트를 묶음으로 읽고, 종류별 핸들러에 전달한 뒤 완료 처리
+// 핸들러 처리와 완료 처리 사이에 종료되면 다시 전달되므로 최소 한 번(at-least-once) 전달
+// 전달 결과는 (이벤트, 핸들러) 단위로 기록해, 재시도 때는 실패한 핸들러에만 다시 전달
+@Component
+public class OutboxDispatcher {
+
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {};
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // 핸들러가 다시 이벤트를 발행할 수 있으므로 지연 주입
+    @Lazy
+    @Autowired
+    private List<DomainEventHandler> handlers;
+
+    @Value("${outbox.poll-interval-ms:5000}")
+    private long pollIntervalMs;
+
+    @Value("${outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.retention-hours:72}")
+    private long retentionHours;
+
+    // 커밋 알림 (여러 번 와도 한 번 깨어나면 밀린 이벤트를 모두 처리)
+    private final Semaphore wakeups = new Semaphore(0);
+
+    private TransactionTemplate transactionTemplate;
+
+    private Thread worker;
+
+    @PostConstruct
+    public void init() {
+        // 요청 트랜잭션과 무관하게 항상 새 트랜잭션으로 처리
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 기동 전에 쌓인 이벤트부터 전달 (초기 데이터 로드가 끝난 뒤 시작)
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker = new Thread(this::runWorker, "outbox-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    // 새 이벤트 커밋 알림
+    public void wakeUp() {
+        wakeups.release();
+    }
+
+    // 보관 기간이 지난 처리 완료 이벤트 정리
+    @Scheduled(fixedDelay = 3_600_000L)
+    public void purgeProcessed() {
+        int deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteProcessedBefore(LocalDateTime.now().minusHours(retentionHours)));
+        if (deleted > 0) {
+            System.out.println("처리 완료된 outbox 이벤트 정리: " + deleted + "건");
+        }
+    }
+
+    private void runWorker() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                wakeups.tryAcquire(pollIntervalMs, TimeUnit.MILLISECONDS);
+                wakeups.drainPermits();
+
+                // 묶음이 가득 차면 밀린 이벤트가 더 있을 수 있으므로 바로 다음 묶음 처리
+                while (dispatchBatch() == batchSize) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                System.err.println("도메인 이벤트 전달 중 오류: " + e.getMessage());
+            }
+        }
+    }
+
+    private int dispatchBatch() {
+        List<OutboxEvent> batch = transactionTemplate.execute(status ->
+                outboxEventRepository.findPending(LocalDateTime.now(), PageRequest.of(0, batchSize)));
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, OutboxEvent> rows = new LinkedHashMap<>();
+        Map<Long, DomainEvent> events = new LinkedHashMap<>();
+        Map<Long, String> failures = new LinkedHashMap<>();
+        // 이벤트별 전달에 성공한 핸들러 (이전 시도에서 성공한 핸들러 포함)
+        Map<Long, Set<String>> delivered = new LinkedHashMap<>();
+        for (OutboxEvent row : batch) {
+            rows.put(row.getId(), row);
+            delivered.put(row.getId(), parseHandlers(row.getDeliveredHandlers()));
+            try {
+                Map<String, Object> payload = row.getPayload() != null
+                        ? objectMapper.readValue(row.getPayload(), PAYLOAD_TYPE)
+                        : Map.of();
+                events.put(row.getId(), new DomainEvent(row.getId(), row.getEventType(), row.getAggregateId(), payload, row.getCreatedAt()));
+            } catch (Exception e) {
+                failures.put(row.getId(), "payload: " + e.getMessage());
+            }
+        }
+
+        for (DomainEventHandler handler : handlers) {
+            String handlerName = nameOf(handler);
+            List<DomainEvent> matched = new ArrayList<>();
+            for (DomainEvent event : events.values()) {
+                if (handler.getEventTypes().contains(event.getType())
+                        && !delivered.get(event.getId()).contains(handlerName)) {
+                    matched.add(event);
+                }
+            }
+            if (matched.isEmpty()) {
+                continue;
+            }
+
+            Set<Long> failed = deliver(handler, matched, failures);
+            for (DomainEvent event : matched) {
+                if (!failed.contains(event.getId())) {
+                    delivered.get(event.getId()).add(handlerName);
+                }
+            }
+        }
+
+        complete(rows, failures, delivered);
+        return batch.size();
+    }
+
+    // 묶음 전달이 실패하면 이벤트별로 다시 전달해 실패한 이벤트만 골라냄 (실패한 이벤트 ID 반환)
+    // 묶음 재시도가 안전하지 않은 핸들러는 처음부터 이벤트별로 전달
+    private Set<Long> deliver(DomainEventHandler handler, List<DomainEvent> matched, Map<Long, String> failures) {
+        Set<Long> failed = new HashSet<>();
+        if (matched.size() == 1 || handler.isBatchRetryable()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> handler.handle(matched));
+                return failed;
+            } catch (RuntimeException e) {
+                if (matched.size() == 1) {
+                    failures.put(matched.get(0).getId(), describe(handler, e));
+                    failed.add(matched.get(0).getId());
+                    return failed;
+                }
+            }
+        }
+
+        for (DomainEvent event : matched) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> handler.handle(List.of(event)));
+            } catch (RuntimeException e) {
+                failures.put(event.getId(), describe(handler, e));
+                failed.add(event.getId());
+            }
+        }
+        return failed;
+    }
+
+    private void complete(Map<Long, OutboxEvent> rows, Map<Long, String> failures, Map<Long, Set<String>> delivered) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> succeeded = new ArrayList<>();
+        for (Long id : rows.keySet()) {
+            if (!failures.containsKey(id)) {
+                succeeded.add(id);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!succeeded.isEmpty()) {
+                outboxEventRepository.markProcessed(succeeded, now);
+            }
+            failures.forEach((id, error) -> {
+                int attempts = rows.get(id).getAttempts() + 1;
+                boolean exhausted = attempts >= maxAttempts;
+                if (exhausted) {
+                    System.err.println("도메인 이벤트 전달 포기 (ID: " + id + "): " + error);
+                }
+                outboxEventRepository.recordFailure(id, attempts, error, joinHandlers(delivered.get(id)),
+                        now.plus(backoffMs(attempts), ChronoUnit.MILLIS),
+                        exhausted ? now : null);
+            });
+        });
+    }
+
+    // 재시도 간격 (폴링 주기의 2배씩 증가, 최대 1시간)
+    private long backoffMs(int attempts) {
+        long delay = pollIntervalMs << Math.min(attempts, 20);
+        return Math.min(delay, 3_600_000L);
+    }
+
+    private String describe(DomainEventHandler handler, RuntimeException e) {
+        String error = nameOf(handler) + ": " + e.getMessage();
+        return error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+
+    private String nameOf(DomainEventHandler handler) {
+        return ClassUtils.getUserClass(handler).getSimpleName();
+    }
+
+    private Set<String> parseHandlers(String handlerNames) {
+        Set<String> names = new LinkedHashSet<>();
+        if (handlerNames != null && !handlerNames.isBlank()) {
+            names.addAll(Arrays.asList(handlerNames.split(",")));
+        }
+        return names;
+    }
+
+    private String joinHandlers(Set<String> handlerNames) {
+        return handlerNames.isEmpty() ? null : String.join(",", handlerNames);
+    }
+}
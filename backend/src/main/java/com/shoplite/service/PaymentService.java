@@ -3,6 +3,7 @@ package com.shoplite.service;
 import com.shoplite.dto.PaymentRequest;
 import com.shoplite.dto.PaymentResponse;
 import com.shoplite.model.Order;
+import com.shoplite.model.OutboxEvent;
 import com.shoplite.model.Payment;
 import com.shoplite.repository.OrderRepository;
 import com.shoplite.repository.PaymentRepository;
@@ -31,6 +32,12 @@ public class PaymentService {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+
+    @Autowired
+    private OrderService orderService;
+
     @Value("${toss.payments.secret-key:test_sk_zXLkKEypNArWmo50nX3lmeaxYG5R}")
     private String tossSecretKey;
 
@@ -96,8 +103,14 @@ public class PaymentService {
                     Payment savedPayment = paymentRepository.save(payment);
 
                     // 주문 상태 업데이트
+                    Order.OrderStatus previousStatus = order.getStatus();
                     order.setStatus(Order.OrderStatus.CONFIRMED);
                     orderRepository.save(order);
+                    orderService.publishStatusChange(order, previousStatus);
+
+                    // 결제 승인 후속 처리는 이벤트로 비동기 처리
+                    domainEventPublisher.publish(OutboxEvent.EventType.PAYMENT_APPROVED, order.getId(),
+                            paymentPayload(savedPayment, order));
 
                     System.out.println("결제 승인 완료");
                     return new PaymentResponse(savedPayment);
@@ -186,8 +199,10 @@ public class PaymentService {
 
                 // 주문 상태도 취소로 변경
                 Order order = payment.getOrder();
+                Order.OrderStatus previousStatus = order.getStatus();
                 order.setStatus(Order.OrderStatus.CANCELLED);
                 orderRepository.save(order);
+                orderService.publishStatusChange(order, previousStatus);
 
                 Payment savedPayment = paymentRepository.save(payment);
                 return new PaymentResponse(savedPayment);
@@ -254,8 +269,16 @@ public class PaymentService {
                 }
 
                 // 주문 상태도 취소로 변경
+                Order.OrderStatus previousStatus = order.getStatus();
                 order.setStatus(Order.OrderStatus.CANCELLED);
                 orderRepository.save(order);
+                orderService.publishStatusChange(order, previousStatus);
+
+                Map<String, Object> payload = new HashMap<>();
+                payload.put("orderId", order.getId());
+                payload.put("paymentKey", paymentKey);
+                payload.put("failureReason", failureReason);
+                domainEventPublisher.publish(OutboxEvent.EventType.PAYMENT_FAILED, order.getId(), payload);
             }
         } catch (Exception e) {
             // 로그만 남기고 예외는 던지지 않음
@@ -263,6 +286,17 @@ public class PaymentService {
         }
     }
 
+    // 결제 승인 이벤트 내용
+    private Map<String, Object> paymentPayload(Payment payment, Order order) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("paymentId", payment.getId());
+        payload.put("orderId", order.getId());
+        payload.put("userId", order.getUser().getId());
+        payload.put("amount", payment.getAmount());
+        payload.put("method", payment.getMethod() != null ? payment.getMethod().name() : null);
+        return payload;
+    }
+
     // 응답에서 결제 방법 추출
     private Payment.PaymentMethod getPaymentMethodFromResponse(Map<String, Object> response) {
         String method = (String) response.get("method");
@@ -0,0 +1,48 @@
+package com.shoplite.service;
+
+import com.shoplite.model.OutboxEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 주문 / 위시리스트 이벤트를 인기 상품 집계에 반영
+@Component
+public class PopularityEventHandler implements DomainEventHandler {
+
+    @Autowired
+    private ProductPopularityService productPopularityService;
+
+    @Override
+    public Set<OutboxEvent.EventType> getEventTypes() {
+        return EnumSet.of(OutboxEvent.EventType.ORDER_CREATED,
+                OutboxEvent.EventType.ORDER_CONFIRMED,
+                OutboxEvent.EventType.WISHLIST_ADDED);
+    }
+
+    // 메모리 집계라 묶음 중간에 실패하면 앞부분을 되돌릴 수 없음
+    @Override
+    public boolean isBatchRetryable() {
+        return false;
+    }
+
+    @Override
+    public void handle(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            if (event.getType() == OutboxEvent.EventType.WISHLIST_ADDED) {
+                productPopularityService.recordWishlistAdd(event.getLong("productId"));
+                continue;
+            }
+            for (Map<String, Object> item : event.getList("items")) {
+                Object productId = item.get("productId");
+                Object quantity = item.get("quantity");
+                if (productId instanceof Number && quantity instanceof Number) {
+                    productPopularityService.recordOrderItem(((Number) productId).longValue(), ((Number) quantity).intValue());
+                }
+            }
+        }
+    }
+}
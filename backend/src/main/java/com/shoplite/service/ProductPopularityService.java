@@ -0,0 +1,206 @@
+package com.shoplite.service;
+
+import com.shoplite.util.TransactionUtil;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 인기 상품 집계 엔진
+// 위시리스트 추가 / 장바구니 추가 / 주문 상품 이벤트를 기간별로 감쇠시키며 Count-Min Sketch 에 누적하고,
+// 상위 상품은 heavy hitter 힙으로 유지해 DB 조회 없이 인기 순위를 제공
+@Service
+public class ProductPopularityService {
+
+    // 이벤트 종류별 가중치
+    private static final double WISHLIST_WEIGHT = 1.0;
+    private static final double CART_WEIGHT = 2.0;
+    private static final double ORDER_WEIGHT = 3.0;
+
+    // 감쇠 주기 (밀리초)
+    private static final long DECAY_INTERVAL_MS = 60_000L;
+
+    @Value("${popularity.sketch-width:2048}")
+    private int sketchWidth;
+
+    @Value("${popularity.sketch-depth:4}")
+    private int sketchDepth;
+
+    @Value("${popularity.top-k:100}")
+    private int topK;
+
+    private final Map<Window, DecayingTopK> windows = new EnumMap<>(Window.class);
+
+    // 집계 기간
+    public enum Window {
+        HOUR("1h", Duration.ofHours(1)),
+        DAY("24h", Duration.ofHours(24)),
+        WEEK("7d", Duration.ofDays(7));
+
+        private final String param;
+        private final Duration duration;
+
+        Window(String param, Duration duration) {
+            this.param = param;
+            this.duration = duration;
+        }
+
+        public static Window fromParam(String param) {
+            for (Window window : values()) {
+                if (window.param.equalsIgnoreCase(param)) {
+                    return window;
+                }
+            }
+            throw new RuntimeException("지원하지 않는 기간입니다: " + param + " (1h, 24h, 7d)");
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        for (Window window : Window.values()) {
+            windows.put(window, new DecayingTopK(sketchDepth, sketchWidth, topK));
+        }
+    }
+
+    // 위시리스트 추가 이벤트
+    public void recordWishlistAdd(Long productId) {
+        record(productId, WISHLIST_WEIGHT);
+    }
+
+    // 장바구니 추가 이벤트
+    public void recordCartAdd(Long productId, int quantity) {
+        record(productId, CART_WEIGHT * quantity);
+    }
+
+    // 주문 상품 이벤트
+    public void recordOrderItem(Long productId, int quantity) {
+        record(productId, ORDER_WEIGHT * quantity);
+    }
+
+    // 기간별 인기 상품 ID와 점수 (점수 내림차순)
+    public LinkedHashMap<Long, Double> getTopProducts(Window window, int limit) {
+        return windows.get(window).top(limit);
+    }
+
+    // 기간 길이에 맞춰 모든 점수를 지수 감쇠 (평균 수명 = 기간)
+    @Scheduled(fixedRate = DECAY_INTERVAL_MS)
+    public void decay() {
+        for (Map.Entry<Window, DecayingTopK> entry : windows.entrySet()) {
+            double factor = Math.exp(-(double) DECAY_INTERVAL_MS / entry.getKey().duration.toMillis());
+            entry.getValue().scale(factor);
+        }
+    }
+
+    private void record(Long productId, double weight) {
+        if (productId == null || weight <= 0) {
+            return;
+        }
+        // 주문/장바구니 트랜잭션이 롤백되면 집계하지 않음
+        TransactionUtil.runAfterCommit(() -> {
+            for (DecayingTopK sketch : windows.values()) {
+                sketch.add(productId, weight);
+            }
+        });
+    }
+
+    // Count-Min Sketch + 상위 K개 후보 힙
+    private static class DecayingTopK {
+        private final double[][] counts;
+        private final long[] seeds;
+        private final int width;
+        private final int capacity;
+
+        // 후보 상품 (점수 오름차순 힙, 가장 작은 후보가 먼저 밀려남)
+        private final PriorityQueue<Candidate> heap = new PriorityQueue<>(Comparator.comparingDouble((Candidate c) -> c.score));
+        private final Map<Long, Candidate> candidates = new HashMap<>();
+
+        DecayingTopK(int depth, int width, int capacity) {
+            this.counts = new double[depth][width];
+            this.seeds = new long[depth];
+            this.width = width;
+            this.capacity = capacity;
+            for (int i = 0; i < depth; i++) {
+                seeds[i] = ThreadLocalRandom.current().nextLong() | 1L;
+            }
+        }
+
+        synchronized void add(Long productId, double weight) {
+            double estimate = Double.MAX_VALUE;
+            for (int i = 0; i < counts.length; i++) {
+                int bucket = bucket(productId, i);
+                counts[i][bucket] += weight;
+                estimate = Math.min(estimate, counts[i][bucket]);
+            }
+
+            Candidate candidate = candidates.get(productId);
+            if (candidate != null) {
+                heap.remove(candidate);
+                candidate.score = estimate;
+                heap.offer(candidate);
+                return;
+            }
+
+            if (candidates.size() < capacity) {
+                candidate = new Candidate(productId, estimate);
+                candidates.put(productId, candidate);
+                heap.offer(candidate);
+            } else if (heap.peek().score < estimate) {
+                Candidate evicted = heap.poll();
+                candidates.remove(evicted.productId);
+                candidate = new Candidate(productId, estimate);
+                candidates.put(productId, candidate);
+                heap.offer(candidate);
+            }
+        }
+
+        // 모든 점수에 같은 비율을 곱하므로 힙 순서는 유지됨
+        synchronized void scale(double factor) {
+            for (double[] row : counts) {
+                for (int j = 0; j < row.length; j++) {
+                    row[j] *= factor;
+                }
+            }
+            for (Candidate candidate : candidates.values()) {
+                candidate.score *= factor;
+            }
+        }
+
+        synchronized LinkedHashMap<Long, Double> top(int limit) {
+            List<Candidate> sorted = new ArrayList<>(candidates.values());
+            sorted.sort(Comparator.comparingDouble((Candidate c) -> c.score).reversed());
+
+            LinkedHashMap<Long, Double> result = new LinkedHashMap<>();
+            for (Candidate candidate : sorted.subList(0, Math.min(limit, sorted.size()))) {
+                result.put(candidate.productId, candidate.score);
+            }
+            return result;
+        }
+
+        private int bucket(Long productId, int row) {
+            long hash = productId * seeds[row];
+            hash ^= (hash >>> 32);
+            return (int) Math.floorMod(hash, (long) width);
+        }
+    }
+
+    private static class Candidate {
+        private final Long productId;
+        private double score;
+
+        Candidate(Long productId, double score) {
+            this.productId = productId;
+            this.score = score;
+        }
+    }
+}
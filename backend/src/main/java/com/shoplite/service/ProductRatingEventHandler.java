@@ -0,0 +1,55 @@
+package com.shoplite.service;
+
+import com.shoplite.model.OutboxEvent;
+import com.shoplite.repository.ProductRepository;
+import com.shoplite.repository.ReviewRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// 리뷰 작성/수정/삭제 이벤트로 상품 평균 평점과 리뷰 개수 재계산
+// 매번 전체를 다시 계산하므로 같은 이벤트를 여러 번 받아도 결과가 같음
+@Component
+public class ProductRatingEventHandler implements DomainEventHandler {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Override
+    public Set<OutboxEvent.EventType> getEventTypes() {
+        return EnumSet.of(OutboxEvent.EventType.REVIEW_CREATED,
+                OutboxEvent.EventType.REVIEW_UPDATED,
+                OutboxEvent.EventType.REVIEW_DELETED);
+    }
+
+    @Override
+    public void handle(List<DomainEvent> events) {
+        // 같은 상품에 대한 이벤트는 한 번만 재계산
+        Set<Long> productIds = new LinkedHashSet<>();
+        for (DomainEvent event : events) {
+            Long productId = event.getLong("productId");
+            if (productId != null) {
+                productIds.add(productId);
+            }
+        }
+        productIds.forEach(this::updateProductRating);
+    }
+
+    // 상품의 평균 평점과 리뷰 개수 업데이트 (삭제된 상품은 갱신되는 행이 없음)
+    // 엔티티 전체를 저장하면 그사이 바뀐 재고 수량을 덮어쓸 수 있으므로 두 컬럼만 갱신
+    private void updateProductRating(Long productId) {
+        Double averageRating = reviewRepository.findAverageRatingByProductId(productId);
+        Long reviewCount = reviewRepository.countByProductId(productId);
+
+        productRepository.updateRating(productId,
+                averageRating != null ? Math.round(averageRating * 10.0) / 10.0 : 0.0,
+                reviewCount.intValue());
+    }
+}
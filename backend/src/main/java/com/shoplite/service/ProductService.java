@@ -5,9 +5,16 @@ import com.shoplite.repository.ProductRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -16,6 +23,15 @@ public class ProductService {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ProductPopularityService productPopularityService;
+
+    @Autowired
+    private CategoryTreeCache categoryTreeCache;
+
+    @Autowired
+    private LowStockWatcher lowStockWatcher;
+
     public List<Product> getAllProducts() {
         return productRepository.findAll();
     }
@@ -28,10 +44,23 @@ public class ProductService {
         throw new RuntimeException("상품을 찾을 수 없습니다. ID: " + id);
     }
 
+    // 여러 상품을 한 번에 조회 (상품 ID -> 상품)
+    public Map<Long, Product> getProductsByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+        return productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
+
     public Product createProduct(Product product) {
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        categoryTreeCache.productSaved(savedProduct); // 카테고리 상품 수/가격 갱신
+        lowStockWatcher.stockChanged(savedProduct); // 재고 부족 감시 갱신
+        return savedProduct;
     }
 
+    // 주문 재고 차감/복구도 이 메서드를 거치므로 재고 감시는 여기서 갱신
     public Product updateProduct(Long id, Product productDetails) {
         Product product = getProductById(id);
         product.setName(productDetails.getName());
@@ -39,12 +68,29 @@ public class ProductService {
         product.setPrice(productDetails.getPrice());
         product.setImageUrl(productDetails.getImageUrl());
         product.setStockQuantity(productDetails.getStockQuantity());
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        categoryTreeCache.productSaved(savedProduct); // 카테고리 상품 수/가격 갱신
+        lowStockWatcher.stockChanged(savedProduct); // 재고 부족 감시 갱신
+        return savedProduct;
+    }
+
+    // 상품별 재고 부족 알림 기준 변경 (null 이면 기본 기준 사용)
+    @Transactional
+    public void updateReorderThreshold(Long id, Integer threshold) {
+        if (threshold != null && threshold < 0) {
+            throw new RuntimeException("알림 기준 수량은 0 이상이어야 합니다.");
+        }
+        if (productRepository.updateReorderThreshold(id, threshold) == 0) {
+            throw new RuntimeException("상품을 찾을 수 없습니다. ID: " + id);
+        }
+        lowStockWatcher.thresholdChanged(id, threshold);
     }
 
     public void deleteProduct(Long id) {
         Product product = getProductById(id);
         productRepository.delete(product);
+        categoryTreeCache.productDeleted(id);
+        lowStockWatcher.productDeleted(id);
     }
 
     public List<Product> searchProductsByName(String name) {
@@ -109,4 +155,25 @@ public class ProductService {
                 })
                 .collect(Collectors.toList());
     }
+
+    // 기간별 인기 상품 (순위는 메모리에서, 상품 정보는 한 번에 조회)
+    public List<Product> getPopularProducts(String window, int limit) {
+        LinkedHashMap<Long, Double> ranking = productPopularityService.getTopProducts(
+                ProductPopularityService.Window.fromParam(window), limit);
+        if (ranking.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Product> productsById = productRepository.findAllById(ranking.keySet()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<Product> popularProducts = new ArrayList<>();
+        for (Long productId : ranking.keySet()) {
+            Product product = productsById.get(productId);
+            if (product != null && (product.getIsActive() == null || product.getIsActive())) {
+                popularProducts.add(product);
+            }
+        }
+        return popularProducts;
+    }
 }
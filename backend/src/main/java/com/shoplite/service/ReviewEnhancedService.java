@@ -3,6 +3,7 @@ package com.shoplite.service;
 import com.shoplite.dto.ReviewDTO;
 import com.shoplite.dto.ReviewRequest;
 import com.shoplite.dto.ReviewSummaryDTO;
+import com.shoplite.model.OutboxEvent;
 import com.shoplite.model.Review;
 import com.shoplite.model.ReviewAction;
 import com.shoplite.model.User;
@@ -12,9 +13,9 @@ import com.shoplite.repository.ReviewActionRepository;
 import com.shoplite.repository.UserRepository;
 import com.shoplite.repository.ProductRepository;
 import com.shoplite.repository.OrderRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shoplite.repository.ReviewImageRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -42,7 +43,17 @@ public class ReviewEnhancedService {
     @Autowired
     private OrderRepository orderRepository;
     
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    @Autowired
+    private ReviewImageRepository reviewImageRepository;
+    
+    @Autowired
+    private ReviewLikeCounter reviewLikeCounter;
+    
+    @Autowired
+    private ReviewModerationService reviewModerationService;
+    
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
     
     // 고도화된 리뷰 작성 (이미지 포함)
     public ReviewDTO createReviewWithImages(Long productId, Long userId, ReviewRequest request, List<String> imageUrls) {
@@ -59,13 +70,9 @@ public class ReviewEnhancedService {
         
         Review review = new Review(request.getRating(), request.getComment(), product, user);
         
-        // 이미지 URL들을 JSON으로 저장
+        // 이미지 URL들을 review_images 에 저장 (리뷰와 함께 cascade 저장)
         if (imageUrls != null && !imageUrls.isEmpty()) {
-            try {
-                review.setImageUrls(objectMapper.writeValueAsString(imageUrls));
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException("이미지 URL 저장 중 오류가 발생했습니다.");
-            }
+            review.addImageUrls(imageUrls);
         }
         
         // 구매 확인 여부 체크
@@ -73,10 +80,10 @@ public class ReviewEnhancedService {
         
         Review savedReview = reviewRepository.save(review);
         
-        // 상품의 평균 평점과 리뷰 개수 업데이트
-        updateProductRating(productId);
+        // 상품의 평균 평점과 리뷰 개수 업데이트 (이벤트로 비동기 처리)
+        publishReviewEvent(OutboxEvent.EventType.REVIEW_CREATED, savedReview.getId(), productId);
         
-        return convertToEnhancedDTO(savedReview, userId);
+        return convertToEnhancedDTO(savedReview, userId, imageUrls != null ? imageUrls : new ArrayList<>());
     }
     
     // 리뷰 좋아요
@@ -93,16 +100,19 @@ public class ReviewEnhancedService {
             throw new RuntimeException("이미 좋아요를 누르셨습니다.");
         }
         
-        // 좋아요 액션 생성
+        // 좋아요 액션 생성 (review_id, user_id, action_type 유니크 인덱스로 동시 요청 중복 방지)
         ReviewAction likeAction = new ReviewAction(review, user, ReviewAction.ActionType.LIKE);
-        reviewActionRepository.save(likeAction);
+        try {
+            reviewActionRepository.saveAndFlush(likeAction);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("이미 좋아요를 누르셨습니다.");
+        }
         
-        // 리뷰의 좋아요 수 업데이트
-        Long likeCount = reviewActionRepository.countLikesByReviewId(reviewId);
-        review.setLikeCount(likeCount.intValue());
-        reviewRepository.save(review);
+        // 좋아요 수는 카운터에 누적 후 주기적으로 반영
+        reviewLikeCounter.increment(reviewId);
         
-        return convertToEnhancedDTO(review, userId);
+        // 카운터는 커밋 후에 증가하므로 응답에는 이번 좋아요를 직접 더함
+        return convertToEnhancedDTO(review, userId, loadImageUrls(List.of(review)).get(review.getId()), 1);
     }
     
     // 리뷰 좋아요 취소
@@ -110,19 +120,18 @@ public class ReviewEnhancedService {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new RuntimeException("리뷰를 찾을 수 없습니다."));
         
-        // 좋아요 액션 찾기 및 삭제
-        ReviewAction likeAction = reviewActionRepository
-                .findByReviewIdAndUserIdAndActionType(reviewId, userId, ReviewAction.ActionType.LIKE)
-                .orElseThrow(() -> new RuntimeException("좋아요를 누르지 않았습니다."));
-        
-        reviewActionRepository.delete(likeAction);
+        // 좋아요 액션 삭제
+        int deleted = reviewActionRepository.deleteByReviewIdAndUserIdAndActionType(
+                reviewId, userId, ReviewAction.ActionType.LIKE);
+        if (deleted == 0) {
+            throw new RuntimeException("좋아요를 누르지 않았습니다.");
+        }
         
-        // 리뷰의 좋아요 수 업데이트
-        Long likeCount = reviewActionRepository.countLikesByReviewId(reviewId);
-        review.setLikeCount(likeCount.intValue());
-        reviewRepository.save(review);
+        // 좋아요 수는 카운터에 누적 후 주기적으로 반영
+        reviewLikeCounter.decrement(reviewId);
         
-        return convertToEnhancedDTO(review, userId);
+        // 카운터는 커밋 후에 감소하므로 응답에는 이번 취소를 직접 뺌
+        return convertToEnhancedDTO(review, userId, loadImageUrls(List.of(review)).get(review.getId()), -1);
     }
     
     // 리뷰 신고
@@ -139,31 +148,56 @@ public class ReviewEnhancedService {
             throw new RuntimeException("이미 신고하셨습니다.");
         }
         
-        // 신고 액션 생성
+        // 신고 액션 생성 (유니크 인덱스로 중복 방지)
         ReviewAction reportAction = new ReviewAction(review, user, ReviewAction.ActionType.REPORT, reason);
-        reviewActionRepository.save(reportAction);
-        
-        // 리뷰의 신고 수 업데이트
-        Long reportCount = reviewActionRepository.countReportsByReviewId(reviewId);
-        review.setReportCount(reportCount.intValue());
-        
-        // 신고가 5개 이상이면 자동으로 숨김 처리
-        if (reportCount >= 5) {
-            review.setStatus(Review.ReviewStatus.HIDDEN);
+        try {
+            reviewActionRepository.saveAndFlush(reportAction);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("이미 신고하셨습니다.");
         }
         
-        reviewRepository.save(review);
+        // 신고 수 반영과 자동 숨김(5건 이상)은 모더레이션 워커에서 비동기 처리
+        reviewModerationService.submitReport(reviewId);
+    }
+    
+    // 신고 많은 리뷰 조회 (관리자용)
+    @Transactional(readOnly = true)
+    public List<ReviewModerationService.ReportedReview> getReviewsWithManyReports(long threshold) {
+        return reviewModerationService.getReviewsWithManyReports(threshold);
     }
     
     // 고도화된 리뷰 목록 조회 (필터링 + 정렬)
     @Transactional(readOnly = true)
     public Page<ReviewDTO> getFilteredReviews(Long productId, Integer rating, Boolean verifiedOnly, 
                                             Boolean withImages, String sortBy, Pageable pageable, Long currentUserId) {
-        Page<Review> reviews = reviewRepository.findByComplexFilter(
-                productId, rating, verifiedOnly != null ? verifiedOnly : false, 
-                withImages != null ? withImages : false, sortBy != null ? sortBy : "newest", pageable);
+        boolean verified = verifiedOnly != null ? verifiedOnly : false;
+        boolean images = withImages != null ? withImages : false;
+        
+        // 정렬 방식별 전용 쿼리 사용 (인덱스 순서로 바로 페이징)
+        Page<Review> reviews;
+        switch (sortBy != null ? sortBy : "newest") {
+            case "helpful":
+                reviews = reviewRepository.findFilteredOrderByHelpful(productId, rating, verified, images, pageable);
+                break;
+            case "oldest":
+                reviews = reviewRepository.findFilteredOrderByOldest(productId, rating, verified, images, pageable);
+                break;
+            case "rating_desc":
+                reviews = reviewRepository.findFilteredOrderByRatingDesc(productId, rating, verified, images, pageable);
+                break;
+            case "rating_asc":
+                reviews = reviewRepository.findFilteredOrderByRatingAsc(productId, rating, verified, images, pageable);
+                break;
+            case "newest":
+            default:
+                reviews = reviewRepository.findFilteredOrderByNewest(productId, rating, verified, images, pageable);
+                break;
+        }
         
-        return reviews.map(review -> convertToEnhancedDTO(review, currentUserId));
+        // 페이지 내 리뷰 이미지를 한 번에 조회
+        Map<Long, List<String>> imageUrlsByReview = loadImageUrls(reviews.getContent());
+        
+        return reviews.map(review -> convertToEnhancedDTO(review, currentUserId, imageUrlsByReview.get(review.getId())));
     }
     
     // 구매 확인 여부 체크
@@ -172,22 +206,39 @@ public class ReviewEnhancedService {
         return orderRepository.existsByUserIdAndOrderItemsProductId(userId, productId);
     }
     
-    // 상품의 평균 평점과 리뷰 개수 업데이트
-    private void updateProductRating(Long productId) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다."));
-        
-        Double averageRating = reviewRepository.findAverageRatingByProductId(productId);
-        Long reviewCount = reviewRepository.countByProductId(productId);
+    // 리뷰 변경 이벤트 발행 (상품 평균 평점 / 리뷰 개수는 이벤트 핸들러가 재계산)
+    private void publishReviewEvent(OutboxEvent.EventType type, Long reviewId, Long productId) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("reviewId", reviewId);
+        payload.put("productId", productId);
+        domainEventPublisher.publish(type, reviewId, payload);
+    }
+    
+    // 이미지가 있는 리뷰들의 이미지 URL 일괄 조회 (리뷰 ID -> URL 목록)
+    private Map<Long, List<String>> loadImageUrls(List<Review> reviews) {
+        List<Long> reviewIds = reviews.stream()
+                .filter(review -> Boolean.TRUE.equals(review.getHasImages()))
+                .map(Review::getId)
+                .collect(Collectors.toList());
         
-        product.setAverageRating(averageRating != null ? Math.round(averageRating * 10.0) / 10.0 : 0.0);
-        product.setReviewCount(reviewCount.intValue());
+        Map<Long, List<String>> imageUrlsByReview = new HashMap<>();
+        if (reviewIds.isEmpty()) {
+            return imageUrlsByReview;
+        }
         
-        productRepository.save(product);
+        for (Object[] row : reviewImageRepository.findImageUrlsByReviewIds(reviewIds)) {
+            imageUrlsByReview.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return imageUrlsByReview;
     }
     
     // Review를 고도화된 DTO로 변환
-    private ReviewDTO convertToEnhancedDTO(Review review, Long currentUserId) {
+    private ReviewDTO convertToEnhancedDTO(Review review, Long currentUserId, List<String> imageUrls) {
+        return convertToEnhancedDTO(review, currentUserId, imageUrls, 0);
+    }
+    
+    // uncommittedLikes: 현재 트랜잭션에서 아직 카운터에 반영되지 않은 좋아요 증감분
+    private ReviewDTO convertToEnhancedDTO(Review review, Long currentUserId, List<String> imageUrls, int uncommittedLikes) {
         ReviewDTO dto = new ReviewDTO(
                 review.getId(),
                 review.getRating(),
@@ -201,20 +252,19 @@ public class ReviewEnhancedService {
         );
         
         // 고도화된 필드들 추가
-        dto.setLikeCount(review.getLikeCount());
+        // 아직 반영되지 않은 좋아요 증감분 포함
+        int pendingLikes = (int) reviewLikeCounter.getPendingDelta(review.getId()) + uncommittedLikes;
+        int likeCount = review.getLikeCount() != null ? review.getLikeCount() : 0;
+        int helpfulnessScore = review.getHelpfulnessScore() != null ? review.getHelpfulnessScore() : 0;
+        dto.setLikeCount(likeCount + pendingLikes);
         dto.setReportCount(review.getReportCount());
-        dto.setHelpfulnessScore(review.getHelpfulnessScore());
+        dto.setHelpfulnessScore(helpfulnessScore + pendingLikes);
         dto.setVerifiedPurchase(review.getIsVerifiedPurchase());
         dto.setStatus(review.getStatus().name());
         
-        // 이미지 URL들 파싱
-        if (review.getImageUrls() != null && !review.getImageUrls().isEmpty()) {
-            try {
-                List<String> imageUrls = objectMapper.readValue(review.getImageUrls(), List.class);
-                dto.setImageUrls(imageUrls);
-            } catch (JsonProcessingException e) {
-                dto.setImageUrls(new ArrayList<>());
-            }
+        // 이미지 URL들 (미리 일괄 조회한 값)
+        if (imageUrls != null && !imageUrls.isEmpty()) {
+            dto.setImageUrls(imageUrls);
         }
         
         // 현재 사용자의 액션 상태
@@ -0,0 +1,103 @@
+package com.shoplite.service;
+
+import com.shoplite.repository.ReviewRepository;
+import com.shoplite.util.TransactionUtil;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 리뷰 좋아요 수 버퍼
+// 좋아요/취소는 리뷰별 증감분 맵에만 누적하고, 주기적으로 모아서 like_count / helpfulness_score 에 반영
+// 증감분은 LongAdder 로 누적해 한 리뷰에 좋아요가 몰려도 같은 잠금에서 줄 서지 않음
+@Component
+public class ReviewLikeCounter {
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // 리뷰 ID -> 아직 DB에 반영되지 않은 좋아요 증감분 (플러시에서 0으로 비워진 항목은 제거)
+    private final ConcurrentHashMap<Long, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+
+    // 좋아요 +1 (트랜잭션 안이면 커밋 후 반영)
+    public void increment(Long reviewId) {
+        addAfterCommit(reviewId, 1L);
+    }
+
+    // 좋아요 -1 (트랜잭션 안이면 커밋 후 반영)
+    public void decrement(Long reviewId) {
+        addAfterCommit(reviewId, -1L);
+    }
+
+    // 아직 반영되지 않은 증감분 (조회 시 DB 값에 더해서 보여줌)
+    public long getPendingDelta(Long reviewId) {
+        LongAdder adder = pendingDeltas.get(reviewId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    // 누적된 증감분을 리뷰별 UPDATE 한 번으로 모아서 반영
+    @Scheduled(fixedDelayString = "${review.like-counter.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Long, Long> batch = new LinkedHashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : pendingDeltas.entrySet()) {
+            Long reviewId = entry.getKey();
+            LongAdder adder = entry.getValue();
+            long delta = adder.sumThenReset();
+            if (delta == 0 && pendingDeltas.remove(reviewId, adder)) {
+                // 제거 직전에 더해진 값은 여기서 가져옴 (제거 뒤에 더해진 값은 add 가 새 항목으로 옮김)
+                delta = adder.sumThenReset();
+            }
+            if (delta != 0) {
+                batch.put(reviewId, delta);
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    batch.forEach((reviewId, delta) ->
+                            reviewRepository.addLikeCountDelta(reviewId, delta.intValue())));
+        } catch (RuntimeException e) {
+            // 반영 실패 시 증감분을 되돌려 다음 주기에 다시 시도
+            batch.forEach(this::add);
+            System.err.println("리뷰 좋아요 수 반영 중 오류: " + e.getMessage());
+        }
+    }
+
+    private void addAfterCommit(Long reviewId, long delta) {
+        TransactionUtil.runAfterCommit(() -> add(reviewId, delta));
+    }
+
+    // 이미 있는 리뷰는 잠금 없이 LongAdder 에 더함
+    // 더하는 사이 플러시가 항목을 제거했으면 더한 값을 꺼내 새 항목으로 옮김 (sumThenReset 은 셀마다 원자적으로 비우므로 중복/누락 없음)
+    private void add(Long reviewId, long delta) {
+        while (delta != 0) {
+            LongAdder adder = pendingDeltas.get(reviewId);
+            if (adder == null) {
+                adder = pendingDeltas.computeIfAbsent(reviewId, id -> new LongAdder());
+            }
+            adder.add(delta);
+            if (pendingDeltas.get(reviewId) == adder) {
+                return;
+            }
+            delta = adder.sumThenReset();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,238 @@
+package com.shoplite.service;
+
+import com.shoplite.model.Review;
+import com.shoplite.repository.ReviewActionRepository;
+import com.shoplite.repository.ReviewRepository;
+import com.shoplite.util.TransactionUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 리뷰 신고 처리 파이프라인
+// 신고 이벤트는 제한된 큐에 쌓이고, 모더레이션 워커가 묶어서 신고 수 반영 / 숨김 처리 / 신고 많은 리뷰 순위를 갱신
+// 신고 자체는 review_actions 에 저장되므로, 큐에 남은 채 비정상 종료돼도 기동 시 전체 재확인으로 복구
+@Service
+public class ReviewModerationService {
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewActionRepository reviewActionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${review.moderation.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${review.moderation.batch-size:100}")
+    private int batchSize;
+
+    @Value("${review.moderation.hide-threshold:5}")
+    private long hideThreshold;
+
+    @Value("${review.moderation.top-k:100}")
+    private int topK;
+
+    private BlockingQueue<Long> reportQueue;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Thread worker;
+
+    private volatile boolean running = true;
+
+    // 신고 많은 리뷰 상위 K개 (신고 수 내림차순)
+    private final TreeSet<ReportedReview> topReported = new TreeSet<>(
+            Comparator.comparingLong(ReportedReview::getReportCount).reversed()
+                    .thenComparing(ReportedReview::getReviewId));
+
+    private final Map<Long, ReportedReview> topReportedIndex = new HashMap<>();
+
+    // 관리자 조회용 스냅샷 (워커가 갱신할 때마다 교체)
+    private volatile List<ReportedReview> topReportedSnapshot = List.of();
+
+    @PostConstruct
+    public void start() {
+        reportQueue = new ArrayBlockingQueue<>(queueCapacity);
+
+        // 요청 트랜잭션 커밋 이후에 실행되므로 항상 새 트랜잭션으로 처리
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        worker = new Thread(this::runWorker, "review-moderation-worker");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // 워커가 처리 중인 묶음을 마치면 멈추고, 큐에 남은 신고는 여기서 처리
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.join(5000L);
+        if (worker.isAlive()) {
+            worker.interrupt();
+        }
+
+        List<Long> remaining = new ArrayList<>();
+        reportQueue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            try {
+                moderate(new LinkedHashSet<>(remaining.subList(from, Math.min(from + batchSize, remaining.size()))));
+            } catch (RuntimeException e) {
+                System.err.println("종료 중 리뷰 신고 처리 오류: " + e.getMessage());
+            }
+        }
+    }
+
+    // 기존 신고 데이터로 신고 수 / 숨김 상태 / 순위 재확인 (기동 시 1회)
+    // 종료 직전에 기준을 넘었지만 처리되지 못한 리뷰도 여기서 숨김 처리
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadInitialRanking() {
+        List<Long> reviewIds = reviewActionRepository.findReviewsWithManyReports(1L).stream()
+                .map(row -> (Long) row[0])
+                .collect(Collectors.toList());
+        for (int from = 0; from < reviewIds.size(); from += batchSize) {
+            moderate(new LinkedHashSet<>(reviewIds.subList(from, Math.min(from + batchSize, reviewIds.size()))));
+        }
+    }
+
+    // 신고 이벤트 등록 (트랜잭션 안이면 커밋 후 등록)
+    public void submitReport(Long reviewId) {
+        TransactionUtil.runAfterCommit(() -> enqueue(reviewId));
+    }
+
+    // 신고 많은 리뷰 조회 (관리자용)
+    public List<ReportedReview> getReviewsWithManyReports(long threshold) {
+        return topReportedSnapshot.stream()
+                .filter(entry -> entry.getReportCount() >= threshold)
+                .collect(Collectors.toList());
+    }
+
+    private void enqueue(Long reviewId) {
+        // 큐가 가득 차면 호출한 스레드에서 바로 처리 (백프레셔)
+        if (!reportQueue.offer(reviewId)) {
+            moderate(Set.of(reviewId));
+        }
+    }
+
+    private void runWorker() {
+        List<Long> drained = new ArrayList<>(batchSize);
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                // 종료 요청을 확인할 수 있도록 제한 시간을 두고 대기
+                Long first = reportQueue.poll(500L, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                drained.add(first);
+                reportQueue.drainTo(drained, batchSize - 1);
+
+                // 같은 리뷰에 대한 신고는 한 번만 처리
+                moderate(new LinkedHashSet<>(drained));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                System.err.println("리뷰 신고 처리 중 오류: " + e.getMessage());
+            } finally {
+                drained.clear();
+            }
+        }
+    }
+
+    // 신고 수 반영, 임계값에 따른 숨김/해제, 순위 갱신
+    private void moderate(Set<Long> reviewIds) {
+        Map<Long, Long> reportCounts = new HashMap<>();
+        for (Long reviewId : reviewIds) {
+            reportCounts.put(reviewId, 0L);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Object[] row : reviewActionRepository.countReportsByReviewIds(reviewIds)) {
+                reportCounts.put((Long) row[0], (Long) row[1]);
+            }
+
+            List<Long> toHide = new ArrayList<>();
+            List<Long> toUnhide = new ArrayList<>();
+            reportCounts.forEach((reviewId, count) -> {
+                reviewRepository.updateReportCount(reviewId, count.intValue());
+                if (count >= hideThreshold) {
+                    toHide.add(reviewId);
+                } else {
+                    toUnhide.add(reviewId);
+                }
+            });
+
+            if (!toHide.isEmpty()) {
+                reviewRepository.updateStatusByIds(toHide, Review.ReviewStatus.ACTIVE, Review.ReviewStatus.HIDDEN);
+            }
+            if (!toUnhide.isEmpty()) {
+                reviewRepository.updateStatusByIds(toUnhide, Review.ReviewStatus.HIDDEN, Review.ReviewStatus.ACTIVE);
+            }
+        });
+
+        synchronized (topReported) {
+            reportCounts.forEach(this::updateRanking);
+            publishSnapshot();
+        }
+    }
+
+    // 상위 K개 유지 (topReported 잠금 안에서 호출)
+    private void updateRanking(Long reviewId, Long reportCount) {
+        ReportedReview previous = topReportedIndex.remove(reviewId);
+        if (previous != null) {
+            topReported.remove(previous);
+        }
+        if (reportCount <= 0) {
+            return;
+        }
+
+        ReportedReview entry = new ReportedReview(reviewId, reportCount);
+        topReported.add(entry);
+        topReportedIndex.put(reviewId, entry);
+
+        if (topReported.size() > topK) {
+            ReportedReview evicted = topReported.pollLast();
+            topReportedIndex.remove(evicted.getReviewId());
+        }
+    }
+
+    private void publishSnapshot() {
+        topReportedSnapshot = List.copyOf(topReported);
+    }
+
+    // 신고 많은 리뷰 항목
+    public static class ReportedReview {
+        private final Long reviewId;
+        private final long reportCount;
+
+        public ReportedReview(Long reviewId, long reportCount) {
+            this.reviewId = reviewId;
+            this.reportCount = reportCount;
+        }
+
+        public Long getReviewId() { return reviewId; }
+        public long getReportCount() { return reportCount; }
+    }
+}
@@ -3,6 +3,7 @@ package com.shoplite.service;
 import com.shoplite.dto.ReviewDTO;
 import com.shoplite.dto.ReviewRequest;
 import com.shoplite.dto.ReviewSummaryDTO;
+import com.shoplite.model.OutboxEvent;
 import com.shoplite.model.Product;
 import com.shoplite.model.Review;
 import com.shoplite.model.User;
@@ -34,6 +35,9 @@ public class ReviewService {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+    
     // 리뷰 작성
     public ReviewDTO createReview(Long productId, Long userId, ReviewRequest request) {
         // 이미 리뷰를 작성했는지 확인
@@ -50,8 +54,8 @@ public class ReviewService {
         Review review = new Review(request.getRating(), request.getComment(), product, user);
         Review savedReview = reviewRepository.save(review);
         
-        // 상품의 평균 평점과 리뷰 개수 업데이트
-        updateProductRating(productId);
+        // 상품의 평균 평점과 리뷰 개수 업데이트 (이벤트로 비동기 처리)
+        publishReviewEvent(OutboxEvent.EventType.REVIEW_CREATED, savedReview.getId(), productId);
         
         return convertToDTO(savedReview);
     }
@@ -71,8 +75,8 @@ public class ReviewService {
         
         Review updatedReview = reviewRepository.save(review);
         
-        // 상품의 평균 평점 업데이트
-        updateProductRating(review.getProduct().getId());
+        // 상품의 평균 평점 업데이트 (이벤트로 비동기 처리)
+        publishReviewEvent(OutboxEvent.EventType.REVIEW_UPDATED, reviewId, review.getProduct().getId());
         
         return convertToDTO(updatedReview);
     }
@@ -90,8 +94,8 @@ public class ReviewService {
         Long productId = review.getProduct().getId();
         reviewRepository.delete(review);
         
-        // 상품의 평균 평점과 리뷰 개수 업데이트
-        updateProductRating(productId);
+        // 상품의 평균 평점과 리뷰 개수 업데이트 (이벤트로 비동기 처리)
+        publishReviewEvent(OutboxEvent.EventType.REVIEW_DELETED, reviewId, productId);
     }
     
     // 특정 상품의 리뷰 목록 조회 (페이징)
@@ -152,18 +156,12 @@ public class ReviewService {
                 .orElse(null);
     }
     
-    // 상품의 평균 평점과 리뷰 개수 업데이트
-    private void updateProductRating(Long productId) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다."));
-        
-        Double averageRating = reviewRepository.findAverageRatingByProductId(productId);
-        Long reviewCount = reviewRepository.countByProductId(productId);
-        
-        product.setAverageRating(averageRating != null ? Math.round(averageRating * 10.0) / 10.0 : 0.0);
-        product.setReviewCount(reviewCount.intValue());
-        
-        productRepository.save(product);
+    // 리뷰 변경 이벤트 발행 (상품 평균 평점 / 리뷰 개수는 이벤트 핸들러가 재계산)
+    private void publishReviewEvent(OutboxEvent.EventType type, Long reviewId, Long productId) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("reviewId", reviewId);
+        payload.put("productId", productId);
+        domainEventPublisher.publish(type, reviewId, payload);
     }
     
     // Review 엔티티를 ReviewDTO로 변환
@@ -0,0 +1,353 @@
+package com.shoplite.service;
+
+import com.shoplite.model.Category;
+import com.shoplite.model.DailyProductSales;
+import com.shoplite.model.DailySalesSummary;
+import com.shoplite.model.Order;
+import com.shoplite.model.OutboxEvent;
+import com.shoplite.model.Product;
+import com.shoplite.model.SalesRollupAppliedEvent;
+import com.shoplite.repository.CategoryRepository;
+import com.shoplite.repository.DailyProductSalesRepository;
+import com.shoplite.repository.DailySalesSummaryRepository;
+import com.shoplite.repository.OrderRepository;
+import com.shoplite.repository.OutboxEventRepository;
+import com.shoplite.repository.ProductRepository;
+import com.shoplite.repository.SalesRollupAppliedEventRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 관리자 매출 통계 (일별 / 카테고리별 / 상품별 사전 집계)
+// 주문 상태 변경 이벤트를 받아 집계 행에 증감분만 반영하므로, 기간 조회는 orders / order_items 대신 집계 행만 읽음
+@Service
+public class SalesRollupService implements DomainEventHandler {
+
+    @Autowired
+    private DailySalesSummaryRepository dailySalesSummaryRepository;
+
+    @Autowired
+    private DailyProductSalesRepository dailyProductSalesRepository;
+
+    @Autowired
+    private SalesRollupAppliedEventRepository salesRollupAppliedEventRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${outbox.retention-hours:72}")
+    private long retentionHours;
+
+    private TransactionTemplate rebuildTemplate;
+
+    @PostConstruct
+    public void init() {
+        // 재구성은 주문 테이블을 한 시점 기준으로 읽어야 하므로 반복 읽기 격리 수준 사용
+        rebuildTemplate = new TransactionTemplate(transactionManager);
+        rebuildTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        rebuildTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    // 집계 테이블이 비어 있으면 기존 주문으로 한 번 채움 (기능 도입 직후 대비)
+    @EventListener(ApplicationReadyEvent.class)
+    @org.springframework.core.annotation.Order(0)
+    public void initializeRollups() {
+        if (dailySalesSummaryRepository.count() == 0 && orderRepository.count() > 0) {
+            Map<String, Object> result = rebuild();
+            System.out.println("매출 집계 초기화 완료: " + result);
+        }
+    }
+
+    @Override
+    public Set<OutboxEvent.EventType> getEventTypes() {
+        return EnumSet.of(OutboxEvent.EventType.ORDER_STATUS_CHANGED);
+    }
+
+    // 주문 상태 변경 이벤트 반영 (이미 반영한 이벤트는 건너뜀)
+    @Override
+    public void handle(List<DomainEvent> events) {
+        List<Long> eventIds = new ArrayList<>();
+        for (DomainEvent event : events) {
+            eventIds.add(event.getId());
+        }
+        Set<Long> applied = new HashSet<>();
+        for (SalesRollupAppliedEvent appliedEvent : salesRollupAppliedEventRepository.findAllById(eventIds)) {
+            applied.add(appliedEvent.getEventId());
+        }
+
+        // 묶음 안에서 같은 날짜 / 상품 행은 한 번만 조회해 누적
+        Map<LocalDate, DailySalesSummary> summaries = new HashMap<>();
+        Map<String, DailyProductSales> productSales = new HashMap<>();
+        List<SalesRollupAppliedEvent> newlyApplied = new ArrayList<>();
+        for (DomainEvent event : events) {
+            if (applied.add(event.getId())) {
+                apply(event, summaries, productSales);
+                newlyApplied.add(new SalesRollupAppliedEvent(event.getId()));
+            }
+        }
+
+        dailySalesSummaryRepository.saveAll(summaries.values());
+        dailyProductSalesRepository.saveAll(productSales.values());
+        salesRollupAppliedEventRepository.saveAll(newlyApplied);
+    }
+
+    // 기간별 매출 요약 + 일별 추이
+    @Transactional(readOnly = true)
+    public Map<String, Object> getSalesSummary(LocalDate from, LocalDate to) {
+        List<DailySalesSummary> days = dailySalesSummaryRepository.findBySalesDateBetweenOrderBySalesDateAsc(from, to);
+
+        long ordersPlaced = 0;
+        long ordersCancelled = 0;
+        long ordersDelivered = 0;
+        long unitsSold = 0;
+        double revenue = 0.0;
+        for (DailySalesSummary day : days) {
+            ordersPlaced += day.getOrdersPlaced();
+            ordersCancelled += day.getOrdersCancelled();
+            ordersDelivered += day.getOrdersDelivered();
+            unitsSold += day.getUnitsSold();
+            revenue += day.getRevenue();
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("from", from);
+        summary.put("to", to);
+        summary.put("ordersPlaced", ordersPlaced);
+        summary.put("ordersCancelled", ordersCancelled);
+        summary.put("ordersDelivered", ordersDelivered);
+        summary.put("unitsSold", unitsSold);
+        summary.put("revenue", revenue);
+        summary.put("daily", days);
+        return summary;
+    }
+
+    // 기간별 카테고리 매출 (매출 내림차순)
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getCategorySales(LocalDate from, LocalDate to) {
+        Map<Long, String> categoryNames = new HashMap<>();
+        for (Category category : categoryRepository.findAll()) {
+            categoryNames.put(category.getId(), category.getName());
+        }
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Object[] row : dailyProductSalesRepository.sumByCategory(from, to)) {
+            Long categoryId = (Long) row[0];
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("categoryId", categoryId);
+            entry.put("categoryName", categoryId != null ? categoryNames.get(categoryId) : "미분류");
+            entry.put("revenue", row[1]);
+            entry.put("unitsSold", row[2]);
+            result.add(entry);
+        }
+        return result;
+    }
+
+    // 기간별 매출 상위 상품
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getTopProducts(LocalDate from, LocalDate to, int limit) {
+        List<Object[]> rows = dailyProductSalesRepository.sumByProduct(from, to, PageRequest.of(0, limit));
+
+        List<Long> productIds = new ArrayList<>();
+        for (Object[] row : rows) {
+            productIds.add((Long) row[0]);
+        }
+        Map<Long, String> productNames = new HashMap<>();
+        for (Product product : productRepository.findAllById(productIds)) {
+            productNames.put(product.getId(), product.getName());
+        }
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Object[] row : rows) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("productId", row[0]);
+            entry.put("productName", productNames.get((Long) row[0]));
+            entry.put("categoryId", row[1]);
+            entry.put("revenue", row[2]);
+            entry.put("unitsSold", row[3]);
+            result.add(entry);
+        }
+        return result;
+    }
+
+    // 전체 매출 (배송 완료 기준)
+    @Transactional(readOnly = true)
+    public Double getTotalRevenue() {
+        return dailySalesSummaryRepository.sumRevenue();
+    }
+
+    // 해당 날짜 이후 주문 수
+    @Transactional(readOnly = true)
+    public Long countOrdersPlacedSince(LocalDate from) {
+        return dailySalesSummaryRepository.sumOrdersPlacedFrom(from);
+    }
+
+    // 주문 테이블 기준으로 집계 전체 재구성 (최초 도입 / 불일치 복구용)
+    public Map<String, Object> rebuild() {
+        return rebuildTemplate.execute(status -> {
+            // 아직 전달되지 않은 상태 변경 이벤트는 이미 주문 테이블에 반영되어 있으므로 반영 완료로 표시
+            List<Long> pendingIds = outboxEventRepository.findPendingIdsByType(OutboxEvent.EventType.ORDER_STATUS_CHANGED);
+            Set<Long> alreadyApplied = new HashSet<>();
+            for (SalesRollupAppliedEvent appliedEvent : salesRollupAppliedEventRepository.findAllById(pendingIds)) {
+                alreadyApplied.add(appliedEvent.getEventId());
+            }
+            List<SalesRollupAppliedEvent> markers = new ArrayList<>();
+            for (Long eventId : pendingIds) {
+                if (!alreadyApplied.contains(eventId)) {
+                    markers.add(new SalesRollupAppliedEvent(eventId));
+                }
+            }
+            salesRollupAppliedEventRepository.saveAll(markers);
+
+            dailyProductSalesRepository.deleteAllRows();
+            dailySalesSummaryRepository.deleteAllRows();
+
+            Map<LocalDate, DailySalesSummary> summaries = new HashMap<>();
+            Map<String, DailyProductSales> productSales = new HashMap<>();
+
+            // [createdAt, status, deliveredAt, totalAmount]
+            for (Object[] row : orderRepository.findSalesRollupRows()) {
+                LocalDate placedDate = ((LocalDateTime) row[0]).toLocalDate();
+                Order.OrderStatus orderStatus = (Order.OrderStatus) row[1];
+                DailySalesSummary placed = summary(placedDate, summaries);
+                placed.setOrdersPlaced(placed.getOrdersPlaced() + 1);
+                if (orderStatus == Order.OrderStatus.CANCELLED) {
+                    placed.setOrdersCancelled(placed.getOrdersCancelled() + 1);
+                } else if (orderStatus == Order.OrderStatus.DELIVERED) {
+                    DailySalesSummary delivered = summary(deliveredDate((LocalDateTime) row[2], placedDate), summaries);
+                    delivered.setOrdersDelivered(delivered.getOrdersDelivered() + 1);
+                    delivered.setRevenue(delivered.getRevenue() + (row[3] != null ? (Double) row[3] : 0.0));
+                }
+            }
+
+            // [createdAt, deliveredAt, productId, categoryId, quantity, price]
+            for (Object[] row : orderRepository.findSalesRollupItemRows(Order.OrderStatus.DELIVERED)) {
+                LocalDate date = deliveredDate((LocalDateTime) row[1], ((LocalDateTime) row[0]).toLocalDate());
+                int quantity = (Integer) row[4];
+                double price = (Double) row[5];
+                addItem(date, (Long) row[2], (Long) row[3], quantity, price, 1, summaries, productSales);
+            }
+
+            dailySalesSummaryRepository.saveAll(summaries.values());
+            dailyProductSalesRepository.saveAll(productSales.values());
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("days", summaries.size());
+            result.put("productRows", productSales.size());
+            return result;
+        });
+    }
+
+    // 보관 기간이 지난 반영 기록 정리 (outbox 에서 정리된 이벤트는 다시 전달되지 않음)
+    @Scheduled(fixedDelay = 3_600_000L)
+    @Transactional
+    public void purgeAppliedEvents() {
+        salesRollupAppliedEventRepository.deleteAppliedBefore(LocalDateTime.now().minusHours(retentionHours));
+    }
+
+    // 상태 전이별 증감 반영
+    // 주문 수 / 취소 수는 주문일, 배송 완료 수 / 매출 / 판매 수량은 배송 완료일 행에 반영
+    private void apply(DomainEvent event, Map<LocalDate, DailySalesSummary> summaries, Map<String, DailyProductSales> productSales) {
+        Order.OrderStatus from = parseStatus(event.getString("fromStatus"));
+        Order.OrderStatus to = parseStatus(event.getString("status"));
+        LocalDate placedDate = event.getString("placedDate") != null
+                ? LocalDate.parse(event.getString("placedDate"))
+                : event.getCreatedAt().toLocalDate();
+
+        if (from == null) {
+            DailySalesSummary placed = summary(placedDate, summaries);
+            placed.setOrdersPlaced(placed.getOrdersPlaced() + 1);
+        }
+
+        int cancelDelta = (to == Order.OrderStatus.CANCELLED ? 1 : 0) - (from == Order.OrderStatus.CANCELLED ? 1 : 0);
+        if (cancelDelta != 0) {
+            DailySalesSummary placed = summary(placedDate, summaries);
+            placed.setOrdersCancelled(placed.getOrdersCancelled() + cancelDelta);
+        }
+
+        // 배송 완료로 바뀌면 더하고, 배송 완료에서 다른 상태로 돌아가면 뺌
+        int sign = (to == Order.OrderStatus.DELIVERED ? 1 : 0) - (from == Order.OrderStatus.DELIVERED ? 1 : 0);
+        if (sign == 0) {
+            return;
+        }
+
+        LocalDate date = event.getString("deliveredDate") != null
+                ? LocalDate.parse(event.getString("deliveredDate"))
+                : placedDate;
+        Double totalAmount = event.getDouble("totalAmount");
+        DailySalesSummary delivered = summary(date, summaries);
+        delivered.setOrdersDelivered(delivered.getOrdersDelivered() + sign);
+        delivered.setRevenue(delivered.getRevenue() + sign * (totalAmount != null ? totalAmount : 0.0));
+
+        for (Map<String, Object> item : event.getList("items")) {
+            Number productId = (Number) item.get("productId");
+            Number categoryId = (Number) item.get("categoryId");
+            Number quantity = (Number) item.get("quantity");
+            Number price = (Number) item.get("price");
+            if (productId == null || quantity == null) {
+                continue;
+            }
+            addItem(date, productId.longValue(), categoryId != null ? categoryId.longValue() : null,
+                    quantity.intValue(), price != null ? price.doubleValue() : 0.0, sign, summaries, productSales);
+        }
+    }
+
+    private void addItem(LocalDate date, Long productId, Long categoryId, int quantity, double price, int sign,
+                         Map<LocalDate, DailySalesSummary> summaries, Map<String, DailyProductSales> productSales) {
+        DailySalesSummary summary = summary(date, summaries);
+        summary.setUnitsSold(summary.getUnitsSold() + (long) sign * quantity);
+
+        DailyProductSales sales = productSales.computeIfAbsent(date + "|" + productId, key ->
+                dailyProductSalesRepository.findBySalesDateAndProductId(date, productId)
+                        .orElseGet(() -> new DailyProductSales(date, productId, categoryId)));
+        if (categoryId != null) {
+            sales.setCategoryId(categoryId);
+        }
+        sales.setUnitsSold(sales.getUnitsSold() + (long) sign * quantity);
+        sales.setRevenue(sales.getRevenue() + sign * price * quantity);
+    }
+
+    private DailySalesSummary summary(LocalDate date, Map<LocalDate, DailySalesSummary> summaries) {
+        return summaries.computeIfAbsent(date, key ->
+                dailySalesSummaryRepository.findBySalesDate(key).orElseGet(() -> new DailySalesSummary(key)));
+    }
+
+    private LocalDate deliveredDate(LocalDateTime deliveredAt, LocalDate placedDate) {
+        return deliveredAt != null ? deliveredAt.toLocalDate() : placedDate;
+    }
+
+    private Order.OrderStatus parseStatus(String status) {
+        return status != null ? Order.OrderStatus.valueOf(status) : null;
+    }
+}
@@ -0,0 +1,138 @@
+package com.shoplite.service;
+
+import com.shoplite.repository.WishlistRepository;
+import com.shoplite.util.TransactionUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 사용자별 찜한 상품 ID 집합 캐시 (정렬된 long[], 이진 탐색으로 확인)
+// 사용자당 찜한 상품 수 x 8바이트만 사용 (상품 ID 최대값과 무관)
+// 처음 조회할 때 한 번 로드하고, 이후 위시리스트 추가/삭제 시 갱신
+@Component
+public class WishlistMembershipCache {
+
+    @Autowired
+    private WishlistRepository wishlistRepository;
+
+    @Value("${wishlist.membership-cache.max-users:10000}")
+    private int maxUsers;
+
+    // 사용자 ID -> 찜한 상품 ID (오름차순, LRU, 접근 시 cache 잠금 필요)
+    private final Map<Long, long[]> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, long[]> eldest) {
+            return size() > maxUsers;
+        }
+    };
+
+    // 사용자별 진행 중인 로드 (cache 잠금 안에서만 접근)
+    // 로드마다 토큰을 따로 두어, 동시에 로드해도 변경이 생기면 모든 로드 결과를 캐시하지 않음
+    private final Map<Long, List<LoadToken>> inFlightLoads = new HashMap<>();
+
+    // 찜 여부 확인
+    public boolean contains(Long userId, Long productId) {
+        return isMember(getOrLoad(userId), productId);
+    }
+
+    // 여러 상품의 찜 여부 한 번에 확인
+    public Map<Long, Boolean> containsAll(Long userId, Collection<Long> productIds) {
+        long[] wishlisted = getOrLoad(userId);
+        Map<Long, Boolean> result = new LinkedHashMap<>();
+        for (Long productId : productIds) {
+            result.put(productId, isMember(wishlisted, productId));
+        }
+        return result;
+    }
+
+    // 위시리스트 추가 반영 (커밋 후)
+    public void added(Long userId, Long productId) {
+        TransactionUtil.runAfterCommit(() -> update(userId, productId, true));
+    }
+
+    // 위시리스트 삭제 반영 (커밋 후)
+    public void removed(Long userId, Long productId) {
+        TransactionUtil.runAfterCommit(() -> update(userId, productId, false));
+    }
+
+    private long[] getOrLoad(Long userId) {
+        LoadToken token = new LoadToken();
+        synchronized (cache) {
+            long[] cached = cache.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            inFlightLoads.computeIfAbsent(userId, id -> new ArrayList<>()).add(token);
+        }
+
+        try {
+            long[] loaded = wishlistRepository.findProductIdsByUserId(userId).stream()
+                    .mapToLong(Long::longValue)
+                    .sorted()
+                    .distinct()
+                    .toArray();
+
+            synchronized (cache) {
+                if (!token.invalidated) {
+                    cache.put(userId, loaded);
+                }
+            }
+            return loaded;
+        } finally {
+            synchronized (cache) {
+                List<LoadToken> tokens = inFlightLoads.get(userId);
+                tokens.remove(token);
+                if (tokens.isEmpty()) {
+                    inFlightLoads.remove(userId);
+                }
+            }
+        }
+    }
+
+    // 캐시된 배열은 읽기 전용으로 공유되므로 새 배열을 만들어 교체
+    private void update(Long userId, Long productId, boolean member) {
+        synchronized (cache) {
+            List<LoadToken> tokens = inFlightLoads.get(userId);
+            if (tokens != null) {
+                tokens.forEach(token -> token.invalidated = true);
+            }
+
+            long[] cached = cache.get(userId);
+            if (cached == null) {
+                return;
+            }
+
+            int index = Arrays.binarySearch(cached, productId);
+            if (member && index < 0) {
+                int insertAt = -index - 1;
+                long[] updated = new long[cached.length + 1];
+                System.arraycopy(cached, 0, updated, 0, insertAt);
+                updated[insertAt] = productId;
+                System.arraycopy(cached, insertAt, updated, insertAt + 1, cached.length - insertAt);
+                cache.put(userId, updated);
+            } else if (!member && index >= 0) {
+                long[] updated = new long[cached.length - 1];
+                System.arraycopy(cached, 0, updated, 0, index);
+                System.arraycopy(cached, index + 1, updated, index, cached.length - index - 1);
+                cache.put(userId, updated);
+            }
+        }
+    }
+
+    private boolean isMember(long[] wishlisted, Long productId) {
+        return productId != null && Arrays.binarySearch(wishlisted, productId) >= 0;
+    }
+
+    // 로드 중에 변경이 생기면 invalidated 로 표시 (cache 잠금 안에서만 접근)
+    private static class LoadToken {
+        private boolean invalidated;
+    }
+}
@@ -1,15 +1,24 @@
 package com.shoplite.service;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.id.IdentifierGenerator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import com.shoplite.model.OutboxEvent;
 import com.shoplite.model.Product;
 import com.shoplite.model.User;
 import com.shoplite.model.Wishlist;
 import com.shoplite.repository.ProductRepository;
 import com.shoplite.repository.UserRepository;
 import com.shoplite.repository.WishlistRepository;
+import jakarta.persistence.EntityManagerFactory;
 
 @Service
 @Transactional
@@ -24,6 +33,15 @@ public class WishlistService {
     @Autowired
     private ProductRepository productRepository;
     
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+    
+    @Autowired
+    private WishlistMembershipCache wishlistMembershipCache;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
     // 위시리스트에 상품 추가
     public Wishlist addToWishlist(Long userId, Long productId) {
         // 이미 위시리스트에 있는지 확인
@@ -38,12 +56,21 @@ public class WishlistService {
             .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다."));
         
         Wishlist wishlist = new Wishlist(user, product);
-        return wishlistRepository.save(wishlist);
+        Wishlist savedWishlist = wishlistRepository.save(wishlist);
+        
+        // 찜 여부 캐시는 바로 갱신, 인기 상품 집계는 이벤트로 처리
+        wishlistMembershipCache.added(userId, productId);
+        publishWishlistEvent(OutboxEvent.EventType.WISHLIST_ADDED, userId, productId);
+        
+        return savedWishlist;
     }
     
     // 위시리스트에서 상품 제거
     public void removeFromWishlist(Long userId, Long productId) {
-        wishlistRepository.deleteByUserIdAndProductId(userId, productId);
+        if (wishlistRepository.deleteByUserIdAndProductId(userId, productId) > 0) {
+            wishlistMembershipCache.removed(userId, productId);
+            publishWishlistEvent(OutboxEvent.EventType.WISHLIST_REMOVED, userId, productId);
+        }
     }
     
     // 사용자의 위시리스트 조회
@@ -53,7 +80,12 @@ public class WishlistService {
     
     // 사용자가 특정 상품을 찜했는지 확인
     public boolean isInWishlist(Long userId, Long productId) {
-        return wishlistRepository.existsByUserIdAndProductId(userId, productId);
+        return wishlistMembershipCache.contains(userId, productId);
+    }
+    
+    // 여러 상품의 찜 여부 한 번에 확인 (상품 목록 화면용)
+    public Map<Long, Boolean> checkWishlistStatus(Long userId, Collection<Long> productIds) {
+        return wishlistMembershipCache.containsAll(userId, productIds);
     }
     
     // 사용자의 위시리스트 개수
@@ -67,20 +99,54 @@ public class WishlistService {
     }
     
     // 위시리스트 토글 (있으면 제거, 없으면 추가)
+    // 삭제를 먼저 시도하고 삭제된 행이 없을 때만 추가 → DELETE 1개 + INSERT 1개 (이벤트 기록 제외)
+    // 사용자/상품 존재 확인과 중복 방지는 INSERT 한 문장 안에서 처리 (유니크 인덱스 충돌은 무시)
+    // 위시리스트 변경과 outbox 이벤트는 같은 트랜잭션에서 기록 (찜 여부 캐시는 커밋 후 갱신)
     public boolean toggleWishlist(Long userId, Long productId) {
-        if (isInWishlist(userId, productId)) {
-            removeFromWishlist(userId, productId);
+        // ID 는 DELETE 보다 먼저 할당 (SQLite 는 ID 테이블 갱신을 별도 커넥션으로 하므로 쓰기 잠금을 잡기 전에)
+        Long wishlistId = nextWishlistId();
+        if (wishlistRepository.deleteByUserIdAndProductId(userId, productId) > 0) {
+            wishlistMembershipCache.removed(userId, productId);
+            publishWishlistEvent(OutboxEvent.EventType.WISHLIST_REMOVED, userId, productId);
             return false; // 제거됨
-        } else {
-            addToWishlist(userId, productId);
-            return true; // 추가됨
         }
+        
+        if (wishlistRepository.insertIfAbsent(wishlistId, userId, productId, LocalDateTime.now()) == 0) {
+            // 추가되지 않은 경우에만 원인 확인 (동시에 들어온 추가 요청이 먼저 저장됐거나 사용자/상품 없음)
+            if (wishlistRepository.existsByUserIdAndProductId(userId, productId)) {
+                return true;
+            }
+            if (!userRepository.existsById(userId)) {
+                throw new RuntimeException("사용자를 찾을 수 없습니다.");
+            }
+            throw new RuntimeException("상품을 찾을 수 없습니다.");
+        }
+        
+        wishlistMembershipCache.added(userId, productId);
+        publishWishlistEvent(OutboxEvent.EventType.WISHLIST_ADDED, userId, productId);
+        return true; // 추가됨
     }
     
     // 인기 상품 조회 (많이 찜한 상품)
     public List<Object[]> getPopularProducts() {
         return wishlistRepository.findPopularProducts();
     }
+    
+    // 엔티티와 같은 ID 생성기(wishlists_seq, 50개씩 미리 할당)에서 ID 할당 (네이티브 INSERT 용)
+    private Long nextWishlistId() {
+        try (SessionImplementor session = (SessionImplementor) entityManagerFactory.unwrap(SessionFactory.class).openSession()) {
+            IdentifierGenerator generator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                    .getEntityDescriptor(Wishlist.class).getGenerator();
+            return (Long) generator.generate(session, null);
+        }
+    }
+    
+    private void publishWishlistEvent(OutboxEvent.EventType type, Long userId, Long productId) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("userId", userId);
+        payload.put("productId", productId);
+        domainEventPublisher.publish(type, productId, payload);
+    }
 }
 
 
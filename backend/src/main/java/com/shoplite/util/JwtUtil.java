@@ -15,6 +15,8 @@ import java.util.function.Function;
 @Component
 public class JwtUtil {
 
+    private static final String STREAM_TOKEN_PURPOSE = "stream";
+
     @Value("${jwt.secret:mySecretKey}")
     private String secret;
 
@@ -86,13 +88,29 @@ public class JwtUtil {
         return createToken(claims, username);
     }
 
+    // SSE 연결용 단기 토큰 생성 (EventSource 는 Authorization 헤더를 보낼 수 없어 쿼리 파라미터로 전달)
+    public String generateStreamToken(String username, long validityMs) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("purpose", STREAM_TOKEN_PURPOSE);
+        return createToken(claims, username, validityMs);
+    }
+
+    // SSE 연결용 토큰인지 확인
+    public boolean isStreamToken(String token) {
+        return STREAM_TOKEN_PURPOSE.equals(extractClaim(token, claims -> claims.get("purpose", String.class)));
+    }
+
     // 토큰 생성
     private String createToken(Map<String, Object> claims, String subject) {
+        return createToken(claims, subject, expiration);
+    }
+
+    private String createToken(Map<String, Object> claims, String subject, long validityMs) {
         return Jwts.builder()
                 .claims(claims)
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiration))
+                .expiration(new Date(System.currentTimeMillis() + validityMs))
                 .signWith(getSigningKey())
                 .compact();
     }
@@ -0,0 +1,51 @@
+package com.shoplite.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// 주문 번호 생성기 (Snowflake 방식)
+// 41비트 시각(밀리초) + 10비트 노드 ID + 12비트 순번. 노드 간 조율 없이 유일하고, 노드 안에서는 단조 증가
+public final class OrderNumberGenerator {
+
+    private static final String PREFIX = "ORD-";
+
+    // 2024-01-01T00:00:00Z
+    private static final long EPOCH = 1704067200000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    private static volatile long nodeId = 0L;
+
+    // (시각 << SEQUENCE_BITS) | 순번. 같은 밀리초에 순번이 넘치거나 시계가 뒤로 가면 마지막 값에서 계속 증가
+    private static final AtomicLong lastState = new AtomicLong();
+
+    // 현재 시각 (테스트에서 시각을 고정해 순번 소진을 재현할 때만 교체)
+    static volatile LongSupplier clock = System::currentTimeMillis;
+
+    private OrderNumberGenerator() {}
+
+    // 노드 ID 설정 (서버 인스턴스마다 달라야 함)
+    public static void setNodeId(long id) {
+        if (id < 0 || id > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + id);
+        }
+        nodeId = id;
+    }
+
+    public static String nextOrderNumber() {
+        return PREFIX + nextId();
+    }
+
+    public static long nextId() {
+        long now = clock.getAsLong() - EPOCH;
+        long state = lastState.updateAndGet(previous -> {
+            long previousTime = previous >>> SEQUENCE_BITS;
+            return now > previousTime ? now << SEQUENCE_BITS : previous + 1;
+        });
+        long time = state >>> SEQUENCE_BITS;
+        long sequence = state & ((1L << SEQUENCE_BITS) - 1);
+        return (time << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+}
@@ -0,0 +1,174 @@
+package com.shoplite.repository;
+
+import com.shoplite.model.Order;
+import com.shoplite.model.OrderItem;
+import com.shoplite.model.Product;
+import com.shoplite.model.Review;
+import com.shoplite.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 주문/리뷰 INSERT 처리량 비교 (JDBC 배치 미사용 vs hibernate.jdbc.batch_size)
+// 이름이 *Test 가 아니므로 기본 테스트에서는 실행되지 않음. 실행: mvn test -Dtest=InsertBatchingBenchmark
+// 기본은 SQLite 파일 DB. 네트워크 왕복이 있는 DB 로 비교하려면 -Dbenchmark.datasource.url/driver/dialect 로 지정
+// (예: -Dbenchmark.datasource.url=jdbc:postgresql://localhost:5432/shoplite_bench
+//      -Dbenchmark.datasource.driver=org.postgresql.Driver -Dbenchmark.datasource.dialect=org.hibernate.dialect.PostgreSQLDialect
+//      -Dbenchmark.datasource.username=... -Dbenchmark.datasource.password=...)
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.url=${benchmark.datasource.url:jdbc:sqlite:./target/insert-benchmark.db}",
+        "spring.datasource.driver-class-name=${benchmark.datasource.driver:org.sqlite.JDBC}",
+        "spring.datasource.username=${benchmark.datasource.username:}",
+        "spring.datasource.password=${benchmark.datasource.password:}",
+        "spring.jpa.database-platform=${benchmark.datasource.dialect:org.hibernate.community.dialect.SQLiteDialect}",
+        "spring.jpa.properties.hibernate.dialect=${benchmark.datasource.dialect:org.hibernate.community.dialect.SQLiteDialect}",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.com.shoplite=INFO"
+})
+class InsertBatchingBenchmark {
+
+    private static final int ORDERS = 2000;
+    private static final int ITEMS_PER_ORDER = 3;
+    private static final int REVIEWS = 5000;
+    private static final int WARMUP = 200;
+
+    // 영속성 컨텍스트가 커지지 않도록 flush/clear 하는 단위 (batch_size 와 같게)
+    private static final int FLUSH_EVERY = 50;
+
+    private static final int UNBATCHED = 1;
+    private static final int BATCHED = 50;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long userId;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        inTransaction(UNBATCHED, entityManager -> {
+            User user = new User("bench", "bench-" + System.nanoTime() + "@shoplite.com", "password");
+            entityManager.persist(user);
+            Product product = new Product("벤치마크 상품", "INSERT 벤치마크용", 10000.0, null, 1_000_000);
+            entityManager.persist(product);
+            entityManager.flush();
+            userId = user.getId();
+            productId = product.getId();
+        });
+    }
+
+    @Test
+    void orderInsertThroughput() {
+        insertOrders(UNBATCHED, WARMUP);
+        insertOrders(BATCHED, WARMUP);
+
+        double before = insertOrders(UNBATCHED, ORDERS);
+        double after = insertOrders(BATCHED, ORDERS);
+        report("주문 (주문 1 + 항목 " + ITEMS_PER_ORDER + ")", ORDERS * (1 + ITEMS_PER_ORDER), before, after);
+
+        assertThat(countRows("SELECT COUNT(o) FROM Order o"))
+                .isEqualTo(2L * (WARMUP + ORDERS));
+    }
+
+    @Test
+    void reviewInsertThroughput() {
+        insertReviews(UNBATCHED, WARMUP);
+        insertReviews(BATCHED, WARMUP);
+
+        double before = insertReviews(UNBATCHED, REVIEWS);
+        double after = insertReviews(BATCHED, REVIEWS);
+        report("리뷰", REVIEWS, before, after);
+
+        assertThat(countRows("SELECT COUNT(r) FROM Review r"))
+                .isEqualTo(2L * (WARMUP + REVIEWS));
+    }
+
+    // 주문 INSERT 소요 시간 (초)
+    private double insertOrders(int batchSize, int count) {
+        return timed(batchSize, (entityManager, index) -> {
+            Order order = new Order(entityManager.getReference(User.class, userId), 30000.0);
+            Product product = entityManager.getReference(Product.class, productId);
+            List<OrderItem> items = new ArrayList<>();
+            for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+                items.add(new OrderItem(order, product, 1, 10000.0));
+            }
+            order.setOrderItems(items);
+            entityManager.persist(order);
+        }, count);
+    }
+
+    // 리뷰 INSERT 소요 시간 (초)
+    private double insertReviews(int batchSize, int count) {
+        return timed(batchSize, (entityManager, index) -> entityManager.persist(new Review(
+                index % 5 + 1, "벤치마크 리뷰 " + index,
+                entityManager.getReference(Product.class, productId),
+                entityManager.getReference(User.class, userId))), count);
+    }
+
+    private double timed(int batchSize, BiConsumer<EntityManager, Integer> insert, int count) {
+        long start = System.nanoTime();
+        inTransaction(batchSize, entityManager -> {
+            for (int i = 0; i < count; i++) {
+                insert.accept(entityManager, i);
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+        return (System.nanoTime() - start) / 1_000_000_000.0;
+    }
+
+    // 세션 단위로 JDBC 배치 크기를 지정해 한 트랜잭션으로 실행
+    private void inTransaction(int batchSize, Consumer<EntityManager> work) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            entityManager.getTransaction().begin();
+            work.accept(entityManager);
+            entityManager.getTransaction().commit();
+        } finally {
+            if (entityManager.getTransaction().isActive()) {
+                entityManager.getTransaction().rollback();
+            }
+            entityManager.close();
+        }
+    }
+
+    private long countRows(String query) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery(query, Long.class).getSingleResult();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private void report(String name, int rows, double beforeSeconds, double afterSeconds) {
+        System.out.printf("[INSERT 벤치마크] %s: 배치 없음 %.0f행/초 (%.2fs), batch_size=%d %.0f행/초 (%.2fs), %.1f배%n",
+                name, rows / beforeSeconds, beforeSeconds, BATCHED, rows / afterSeconds, afterSeconds,
+                beforeSeconds / afterSeconds);
+    }
+}
@@ -0,0 +1,134 @@
+package com.shoplite.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 리뷰 목록 쿼리 실행 계획 회귀 테스트
+// 각 정렬 방식의 실제 SQL 을 가로채 EXPLAIN QUERY PLAN 으로 확인하고, 인덱스 탐색 대신 전체 스캔이나 정렬이 나오면 실패
+// H2 는 정렬 컬럼으로 시작하는 인덱스만 정렬에 사용하고 (product_id, status) 같은 동등 조건 접두어를 고려하지 않으므로,
+// 개발 DB 와 같은 SQLite(메모리)에서 엔티티 인덱스로 스키마를 만들어 확인
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:sqlite:file:review-plan-test?mode=memory&cache=shared",
+        "spring.datasource.driver-class-name=org.sqlite.JDBC",
+        "spring.datasource.username=",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.jpa.database-platform=org.hibernate.community.dialect.SQLiteDialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.community.dialect.SQLiteDialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.shoplite.repository.ReviewRepositoryQueryPlanTest$SqlCapture"
+})
+class ReviewRepositoryQueryPlanTest {
+
+    private static final Long PRODUCT_ID = 1L;
+    private static final Pageable PAGE = PageRequest.of(0, 10);
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearCapturedSql() {
+        SqlCapture.statements.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"newest", "oldest", "helpful", "rating_desc", "rating_asc"})
+    void filteredListingUsesIndexOrder(String sortBy) {
+        switch (sortBy) {
+            case "oldest":
+                reviewRepository.findFilteredOrderByOldest(PRODUCT_ID, null, false, false, PAGE);
+                break;
+            case "helpful":
+                reviewRepository.findFilteredOrderByHelpful(PRODUCT_ID, null, false, false, PAGE);
+                break;
+            case "rating_desc":
+                reviewRepository.findFilteredOrderByRatingDesc(PRODUCT_ID, null, false, false, PAGE);
+                break;
+            case "rating_asc":
+                reviewRepository.findFilteredOrderByRatingAsc(PRODUCT_ID, null, false, false, PAGE);
+                break;
+            default:
+                reviewRepository.findFilteredOrderByNewest(PRODUCT_ID, null, false, false, PAGE);
+                break;
+        }
+
+        assertIndexOrdered(sortBy);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"newest", "oldest", "helpful", "rating_desc", "rating_asc", "with_images"})
+    void productListingUsesIndexOrder(String sortBy) {
+        switch (sortBy) {
+            case "oldest":
+                reviewRepository.findByProductIdOrderByOldest(PRODUCT_ID, PAGE);
+                break;
+            case "helpful":
+                reviewRepository.findByProductIdOrderByHelpfulnessScore(PRODUCT_ID, PAGE);
+                break;
+            case "rating_desc":
+                reviewRepository.findByProductIdOrderByRatingDesc(PRODUCT_ID, PAGE);
+                break;
+            case "rating_asc":
+                reviewRepository.findByProductIdOrderByRatingAsc(PRODUCT_ID, PAGE);
+                break;
+            case "with_images":
+                reviewRepository.findReviewsWithImagesByProductId(PRODUCT_ID, PAGE);
+                break;
+            default:
+                reviewRepository.findByProductIdOrderByNewest(PRODUCT_ID, PAGE);
+                break;
+        }
+
+        assertIndexOrdered(sortBy);
+    }
+
+    // 마지막으로 실행된 ORDER BY 쿼리(목록 조회)의 실행 계획 확인 (페이지 count 쿼리는 제외)
+    private void assertIndexOrdered(String sortBy) {
+        String sql = SqlCapture.statements.stream()
+                .filter(statement -> statement.toLowerCase().contains("order by"))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("목록 쿼리가 실행되지 않았습니다: " + sortBy));
+
+        Object[] args = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+        List<String> plan = jdbcTemplate.query("EXPLAIN QUERY PLAN " + sql,
+                (rs, rowNum) -> rs.getString("detail"), args);
+
+        assertThat(plan)
+                .as("%s 실행 계획: %s", sortBy, plan)
+                .anyMatch(detail -> detail.startsWith("SEARCH") && detail.contains("INDEX idx_reviews_product_status"))
+                .noneMatch(detail -> detail.contains("TEMP B-TREE"))
+                .noneMatch(detail -> detail.startsWith("SCAN"));
+    }
+
+    // Hibernate 가 실행하는 SQL 수집
+    public static class SqlCapture implements StatementInspector {
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
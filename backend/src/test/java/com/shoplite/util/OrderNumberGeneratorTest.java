@@ -0,0 +1,131 @@
+package com.shoplite.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 주문 번호 생성기 동시성 테스트 (여러 스레드에서 생성해도 중복 없음, 스레드 안에서는 단조 증가)
+class OrderNumberGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int SEQUENCE_PER_MILLI = 1 << 12;
+
+    @AfterEach
+    void restoreClock() {
+        OrderNumberGenerator.clock = System::currentTimeMillis;
+    }
+
+    @Test
+    void concurrentIdsAreUnique() throws Exception {
+        int perThread = 250_000;
+
+        long start = System.nanoTime();
+        long[][] generated = generate(THREADS, perThread);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.out.printf("[주문 번호] %d개 생성 (%d 스레드), %.0f개/초%n",
+                THREADS * perThread, THREADS, THREADS * perThread / seconds);
+
+        assertIncreasingPerThread(generated);
+        assertUnique(generated, THREADS * perThread);
+    }
+
+    @Test
+    void exhaustedSequenceRollsIntoNextMillisecond() throws Exception {
+        // 지금까지 생성한 값보다 뒤의 시각으로 고정해 같은 밀리초에 순번(4096개)을 여러 번 소진
+        long fixedMillis = System.currentTimeMillis() + 60_000;
+        OrderNumberGenerator.clock = () -> fixedMillis;
+        int perThread = SEQUENCE_PER_MILLI * 3;
+
+        long[][] generated = generate(THREADS, perThread);
+
+        assertIncreasingPerThread(generated);
+        long[] all = assertUnique(generated, THREADS * perThread);
+        // 소진된 뒤에는 다음 밀리초 값을 미리 사용
+        assertThat(timeOf(all[all.length - 1])).isGreaterThan(timeOf(all[0]));
+
+        // 실제 시각이 앞당겨 쓴 시각보다 뒤처지거나 되돌아가도 이전 값보다 큼
+        long last = all[all.length - 1];
+        OrderNumberGenerator.clock = () -> fixedMillis + 1;
+        long afterRollover = OrderNumberGenerator.nextId();
+        OrderNumberGenerator.clock = () -> fixedMillis - 1000;
+        long afterClockBack = OrderNumberGenerator.nextId();
+        assertThat(afterRollover).isGreaterThan(last);
+        assertThat(afterClockBack).isGreaterThan(afterRollover);
+    }
+
+    @Test
+    void orderNumberContainsNodeId() {
+        OrderNumberGenerator.setNodeId(7);
+        try {
+            long id = Long.parseLong(OrderNumberGenerator.nextOrderNumber().substring("ORD-".length()));
+            assertThat((id >>> 12) & 0x3FF).isEqualTo(7L);
+        } finally {
+            OrderNumberGenerator.setNodeId(0);
+        }
+    }
+
+    // 스레드별로 동시에 생성 (생성 순서대로 담김)
+    private long[][] generate(int threads, int perThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch startGate = new CountDownLatch(1);
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Callable<long[]> task = () -> {
+                    startGate.await();
+                    long[] ids = new long[perThread];
+                    for (int i = 0; i < perThread; i++) {
+                        ids[i] = OrderNumberGenerator.nextId();
+                    }
+                    return ids;
+                };
+                futures.add(executor.submit(task));
+            }
+            startGate.countDown();
+
+            long[][] generated = new long[threads][];
+            for (int t = 0; t < threads; t++) {
+                generated[t] = futures.get(t).get();
+            }
+            return generated;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertIncreasingPerThread(long[][] generated) {
+        for (long[] ids : generated) {
+            for (int i = 1; i < ids.length; i++) {
+                if (ids[i] <= ids[i - 1]) {
+                    throw new AssertionError("스레드 안에서 감소한 주문 번호: " + ids[i - 1] + " -> " + ids[i]);
+                }
+            }
+        }
+    }
+
+    // 전체를 정렬해 인접한 값이 모두 다른지 확인 (정렬된 배열 반환)
+    private long[] assertUnique(long[][] generated, int expectedCount) {
+        long[] all = Arrays.stream(generated).flatMapToLong(Arrays::stream).sorted().toArray();
+        assertThat(all).hasSize(expectedCount);
+        for (int i = 1; i < all.length; i++) {
+            if (all[i] == all[i - 1]) {
+                throw new AssertionError("중복된 주문 번호: " + all[i]);
+            }
+        }
+        return all;
+    }
+
+    private long timeOf(long id) {
+        return id >>> 22;
+    }
+}
@@ -19,8 +19,8 @@ const Cart = ({ user }) => {
   const fetchCartItems = async () => {
     try {
       setLoading(true);
-      const items = await CartService.getCartItems(user.id);
-      setCartItems(items);
+      const summary = await CartService.getCartSummary(user.id);
+      setCartItems(summary.items);
       setError(null);
     } catch (err) {
       setError('장바구니를 불러오는데 실패했습니다.');
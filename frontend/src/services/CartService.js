@@ -6,6 +6,11 @@ class CartService {
     return await apiClient.get(`/cart/user/${userId}`);
   }
 
+  // 장바구니 요약 조회 (항목, 개수, 총 금액)
+  static async getCartSummary(userId) {
+    return await apiClient.get(`/cart/user/${userId}/summary`);
+  }
+
   // 장바구니에 상품 추가
   static async addToCart(userId, productId, quantity = 1) {
     return await apiClient.post('/cart', {